@@ -23,7 +23,7 @@ public class Quizhub {
      *                 written to and read from by the program.
      */
     public Quizhub(String filePath){
-        dataStorage = new Storage(filePath);
+        dataStorage = new Storage(filePath, true);
         questions = new QuestionList();
         ui = new Ui(dataStorage, questions);
         parser = new Parser(questions);
@@ -50,7 +50,16 @@ public class Quizhub {
         ui.displayClosingMessage();
     }
 
+    /**
+     * Launches QuizHub with the question file given as the first argument,
+     * or questionlist.txt if no argument is given.
+     * Question files ending with ".bin" are stored in binary format.
+     */
     public static void main(String[] args) {
-        new Quizhub(FILE_PATH).run();
+        if (args.length > 0) {
+            new Quizhub(args[0]).run();
+        } else {
+            new Quizhub(FILE_PATH).run();
+        }
     }
 }
@@ -8,7 +8,7 @@ import quizhub.ui.Ui;
  */
 public class Command {
     public enum CommandType {HELP, ADD, LIST, EDIT, DELETE, START,
-        SHUFFLE, MARKDIFFICULTY, FIND, EXIT, INVALID};
+        SHUFFLE, MARKDIFFICULTY, FIND, EXPORT, DEDUP, STATS, UNDO, REDO, EXIT, INVALID};
     private CommandType commandType;
     /**
      * Creates a new blank command.
@@ -0,0 +1,55 @@
+package quizhub.command;
+
+import quizhub.questionlist.QuestionList;
+import quizhub.storage.Storage;
+import quizhub.ui.Ui;
+/**
+ * Represents a command to report groups of questions that look alike, or to turn on or off
+ * the check for such questions whenever a question is added.
+ */
+public class CommandDedup extends Command {
+    public static final String COMMAND_WORD = "dedup";
+    public static final String CHECK_ON_MSG = "    Roger that! I will warn you when an added question " +
+            "looks like existing ones >w< !";
+    public static final String CHECK_OFF_MSG = "    Roger that! I will no longer check added questions " +
+            "for look-alikes >w< !";
+    public static final String INVALID_OPTION_MSG = "    Ono! The only options of dedup are /on and /off :<";
+    public static final String INVALID_FORMAT_MSG = "    Please format your input as dedup, dedup /on or dedup /off!";
+    private final boolean isToggle;
+    private final boolean checksOnAdd;
+    /**
+     * Creates a new dedup command to report the groups of near-duplicate questions.
+     */
+    public CommandDedup() {
+        super(CommandType.DEDUP);
+        this.isToggle = false;
+        this.checksOnAdd = false;
+    }
+    /**
+     * Creates a new dedup command to turn on or off the near-duplicate check when adding questions.
+     *
+     * @param checksOnAdd If true, added questions are checked for near-duplicates from now on.
+     */
+    public CommandDedup(boolean checksOnAdd) {
+        super(CommandType.DEDUP);
+        this.isToggle = true;
+        this.checksOnAdd = checksOnAdd;
+    }
+    /**
+     * Prints the groups of near-duplicate questions in the current question list,
+     * or turns the near-duplicate check on add on or off for the rest of the session.
+     *
+     * @param ui User interface for interactions with user through CLI.
+     * @param questions Current question list in the program.
+     * @param dataStorage Hard disk storage for storing question data.
+     */
+    @Override
+    public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
+        if (!isToggle) {
+            questions.printNearDuplicates();
+            return;
+        }
+        questions.setNearDuplicateCheck(checksOnAdd);
+        ui.displayMessage(checksOnAdd ? CHECK_ON_MSG : CHECK_OFF_MSG);
+    }
+}
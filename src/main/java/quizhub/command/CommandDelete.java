@@ -1,17 +1,24 @@
 package quizhub.command;
 
+import quizhub.question.Question;
+import quizhub.questionlist.ChangeHistory;
 import quizhub.storage.Storage;
 import quizhub.questionlist.QuestionList;
 import quizhub.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.List;
 /**
- * Represents a command to delete a question.
+ * Represents a command to delete a question, or several questions at once.
  */
 public class CommandDelete extends Command {
     public static final String COMMAND_WORD = "delete";
-    public static final String INVALID_FORMAT_MSG = "    Please format your input as delete [question number]";
+    public static final String INVALID_FORMAT_MSG = "    Please format your input as delete [question number] " +
+            "or delete [question numbers], e.g. delete 1,4,9-20";
     public static final String MISSING_INDEX_MSG = "    Ono! You did not indicate question index :<";
     public static final String EXCESSIVE_INDEX_MSG = "    Please enter only 1 question index!";
     private final int qnIndex;
+    private final int[] qnIndexes; //list indexes of the questions deleted together, or null for a single question
 
     /**
      * Creates a new delete command for a question.
@@ -21,6 +28,18 @@ public class CommandDelete extends Command {
     public CommandDelete(int qnIndex){
         super(CommandType.DELETE);
         this.qnIndex = qnIndex;
+        this.qnIndexes = null;
+    }
+
+    /**
+     * Creates a new delete command for several questions, which are deleted and saved together.
+     *
+     * @param qnIndexes Distinct 1-based indexes of the questions to be deleted, in ascending order.
+     */
+    public CommandDelete(int[] qnIndexes){
+        super(CommandType.DELETE);
+        this.qnIndex = 0;
+        this.qnIndexes = qnIndexes;
     }
     /**
      * Checks if specified question exists.
@@ -32,12 +51,78 @@ public class CommandDelete extends Command {
      */
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions){
-        String questionName = questions.viewQuestionByIndex(qnIndex);
-        if (questionName.equals("Question Not Found")) {
-            ui.showInvalidCommandHelp(Ui.INVALID_INTEGER_INDEX_MSG);
-            return;
+        questions.runExclusively(() -> {
+            if (qnIndexes != null) {
+                List<Question> deletedQuestions = new ArrayList<>();
+                for (int index : qnIndexes) {
+                    deletedQuestions.add(questions.getQuestionByIndex(index));
+                }
+                int[] deletedIndexes = questions.deleteQuestionsByIndexes(qnIndexes, true);
+                if (deletedIndexes.length > 0) {
+                    questions.getChangeHistory().record(new Deletion(qnIndexes, deletedQuestions));
+                }
+                dataStorage.recordDeletions(questions, deletedIndexes);
+                return;
+            }
+            String questionName = questions.viewQuestionByIndex(qnIndex);
+            if (questionName.equals("Question Not Found")) {
+                ui.showInvalidCommandHelp(Ui.INVALID_INTEGER_INDEX_MSG);
+                return;
+            }
+            Question deletedQuestion = questions.getQuestionByIndex(qnIndex);
+            questions.deleteQuestionByIndex(qnIndex);
+            questions.getChangeHistory().record(new Deletion(new int[] {qnIndex}, List.of(deletedQuestion)));
+            dataStorage.recordDeletion(questions, qnIndex);
+        });
+    }
+
+    /**
+     * Represents the deletion of one or more questions, undone by putting the deleted questions back
+     * at the list indexes they had.
+     * Questions put back at the back of the list are journaled as additions, and deleting them again as deletions
+     * from the highest list index down, the order in which they are deleted.
+     */
+    private static class Deletion implements ChangeHistory.Change {
+        private final int[] qnIndexes;
+        private final List<Question> deletedQuestions;
+
+        private Deletion(int[] qnIndexes, List<Question> deletedQuestions) {
+            this.qnIndexes = qnIndexes;
+            this.deletedQuestions = deletedQuestions;
+        }
+
+        @Override
+        public void undo(QuestionList questions) {
+            questions.insertQuestions(qnIndexes, deletedQuestions);
+        }
+
+        @Override
+        public void redo(QuestionList questions) {
+            questions.deleteQuestionsByIndexes(qnIndexes, false);
+        }
+
+        @Override
+        public void saveUndo(QuestionList questions, Storage dataStorage) {
+            if (qnIndexes[0] == questions.getQuestionListSize() - qnIndexes.length + 1) {
+                dataStorage.recordAdditions(questions, deletedQuestions);
+            } else {
+                // add records always append, so questions put back before others are saved as a fresh snapshot
+                dataStorage.updateData(questions);
+            }
+        }
+
+        @Override
+        public void saveRedo(QuestionList questions, Storage dataStorage) {
+            int[] deletedIndexes = new int[qnIndexes.length];
+            for (int i = 0; i < qnIndexes.length; i++) {
+                deletedIndexes[i] = qnIndexes[qnIndexes.length - 1 - i];
+            }
+            dataStorage.recordDeletions(questions, deletedIndexes);
+        }
+
+        @Override
+        public String getDescription() {
+            return COMMAND_WORD;
         }
-        questions.deleteQuestionByIndex(qnIndex);
-        dataStorage.updateData(questions);
     }
 }
@@ -1,10 +1,15 @@
 package quizhub.command;
 
+import quizhub.question.Question;
+import quizhub.questionlist.ChangeHistory;
 import quizhub.storage.Storage;
 import quizhub.questionlist.QuestionList;
 import quizhub.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.List;
 /**
- * Represents a command to edit a question.
+ * Represents a command to edit a question, or to move every question of a module to another module.
  */
 public class CommandEdit extends Command {
     public static final String COMMAND_WORD = "edit";
@@ -13,7 +18,10 @@ public class CommandEdit extends Command {
             "/description [new description] or /answer [new answer]! for short answer questions and" +
             System.lineSeparator() +
             "    edit [question number] /description [new description] or /answer [new answer] or " + 
-            "/option[number] [new value] for multiple choice questions";
+            "/option[number] [new value] for multiple choice questions" + System.lineSeparator() +
+            "    or edit /module [old module] /module [new module] to move all questions of a module";
+    public static final String INVALID_MODULE_EDIT_MSG = "    Ono! Please give exactly one module to move " +
+            "questions from and one module to move them to :<";
     public static final String MISSING_INDEX_MSG = "    Ono! You did not indicate question index :<";
     public static final String TOO_MANY_INDEX_MSG = "    Ono! You cannot enter more than 1 valid integer index :<";
     public static final String MISSING_CRITERIA_MSG = "    Ono! You did not indicate which " +
@@ -32,6 +40,7 @@ public class CommandEdit extends Command {
     private final int qnIndex;
     private final String editField;
     private final String newValue;
+    private final String oldModule; //module whose questions are all moved, or null to edit a single question
 
     /**
      * Creates a new edit command
@@ -46,15 +55,97 @@ public class CommandEdit extends Command {
         this.qnIndex = qnIndex;
         this.editField = editField;
         this.newValue = newValue;
+        this.oldModule = null;
+    }
+
+    /**
+     * Creates a new edit command moving every question of a module to another module.
+     *
+     * @param oldModule The module whose questions are moved, ignoring case.
+     * @param newModule The module the questions are moved to.
+     */
+    public CommandEdit(String oldModule, String newModule) {
+        super(CommandType.EDIT);
+        this.qnIndex = 0;
+        this.editField = "module";
+        this.newValue = newModule;
+        this.oldModule = oldModule;
     }
 
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
-        if (editField == null && newValue == null) {
-            return;
+        questions.runExclusively(() -> {
+            if (editField == null && newValue == null) {
+                return;
+            }
+            if (oldModule != null) {
+                List<String> previousModules = new ArrayList<>();
+                int[] movedIndexes = questions.renameModule(oldModule, newValue, previousModules, true);
+                if (movedIndexes.length > 0) {
+                    questions.getChangeHistory().record(new Edit(movedIndexes, editField,
+                            previousModules.toArray(new String[0]), newValue));
+                }
+                dataStorage.recordEdits(questions, movedIndexes, editField, newValue);
+                return;
+            }
+            Question question = questions.getQuestionByIndex(qnIndex);
+            if (question == null) {
+                // the question may have been deleted by another session since the command was parsed
+                ui.displayMessage(QuestionList.INVALID_QN_MSG);
+                return;
+            }
+            String oldValue = question.getFieldValue(editField);
+            questions.editQuestionByIndex(qnIndex, editField, newValue);
+            questions.getChangeHistory().record(new Edit(new int[] {qnIndex}, editField,
+                    new String[] {oldValue}, newValue));
+            ui.displayMessage(SUCCESSFUL_EDIT_MSG);
+            dataStorage.recordEdit(questions, qnIndex, editField, newValue);
+        });
+    }
+
+    /**
+     * Represents an edit to the same field of one or more questions, undone by putting back the old values.
+     */
+    private static class Edit implements ChangeHistory.Change {
+        private final int[] qnIndexes;
+        private final String editField;
+        private final String[] oldValues; //value of the field of each question before the edit
+        private final String newValue;
+
+        private Edit(int[] qnIndexes, String editField, String[] oldValues, String newValue) {
+            this.qnIndexes = qnIndexes;
+            this.editField = editField;
+            this.oldValues = oldValues;
+            this.newValue = newValue;
+        }
+
+        @Override
+        public void undo(QuestionList questions) {
+            for (int i = 0; i < qnIndexes.length; i++) {
+                questions.editQuestionByIndex(qnIndexes[i], editField, oldValues[i], false);
+            }
+        }
+
+        @Override
+        public void redo(QuestionList questions) {
+            for (int qnIndex : qnIndexes) {
+                questions.editQuestionByIndex(qnIndex, editField, newValue, false);
+            }
+        }
+
+        @Override
+        public void saveUndo(QuestionList questions, Storage dataStorage) {
+            dataStorage.recordEdits(questions, qnIndexes, editField, oldValues);
+        }
+
+        @Override
+        public void saveRedo(QuestionList questions, Storage dataStorage) {
+            dataStorage.recordEdits(questions, qnIndexes, editField, newValue);
+        }
+
+        @Override
+        public String getDescription() {
+            return COMMAND_WORD;
         }
-        questions.editQuestionByIndex(qnIndex, editField, newValue);
-        ui.displayMessage(SUCCESSFUL_EDIT_MSG);
-        dataStorage.updateData(questions);
     }
 }
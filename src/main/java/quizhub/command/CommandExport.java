@@ -0,0 +1,37 @@
+package quizhub.command;
+
+import quizhub.questionlist.QuestionList;
+import quizhub.storage.Storage;
+import quizhub.ui.Ui;
+/**
+ * Represents a command to export all questions to a text question file.
+ */
+public class CommandExport extends Command {
+    public static final String COMMAND_WORD = "export";
+    public static final String MISSING_PATH_MSG = "    Ono! You did not indicate the file to export to :<";
+    public static final String INVALID_FORMAT_MSG = "    Please format your input as export [file path]!";
+    public static final String EXPORT_SUCCESS_MSG = "    Roger that! I have exported all questions to ";
+    private final String filePath;
+    /**
+     * Creates a new export command.
+     *
+     * @param filePath File location in hard disk where questions are exported to.
+     */
+    public CommandExport(String filePath) {
+        super(CommandType.EXPORT);
+        this.filePath = filePath;
+    }
+    /**
+     * Writes all questions in the current question list to the specified file in text format.
+     *
+     * @param ui User interface for interactions with user through CLI.
+     * @param questions Current question list in the program.
+     * @param dataStorage Hard disk storage for storing question data.
+     */
+    @Override
+    public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
+        if (dataStorage.exportData(questions, filePath)) {
+            ui.displayMessage(EXPORT_SUCCESS_MSG + filePath + " >w< !");
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package quizhub.command;
 
+import quizhub.questionlist.QuestionQuery;
+import quizhub.questionlist.WordIndex;
 import quizhub.storage.Storage;
 import quizhub.questionlist.QuestionList;
 import quizhub.ui.Ui;
+
+import java.util.List;
+
 /**
  * Represents a command to search for a question.
  */
@@ -13,9 +18,27 @@ public class CommandFind extends Command{
     public static final String MISSING_KEYWORD_MSG = "    Ono! You did not indicate " +
             "the keywords you are searching by :<";
     public static final String INVALID_FORMAT_MSG = "    Please format your input as find " +
-            "/description [description] or find /module [module]!";
+            "/description [description], find /keywords [keywords], find /fuzzy [keywords] /distance [distance], " +
+            "find /ranked [keywords] /top [number] or find /module [module]!";
+    public static final String INVALID_QUERY_FORMAT_MSG = "    Please format your query as find " +
+            "/[criterion] [values] /[criterion] [values] ... with criteria module, difficulty, type, done or text!";
+    public static final String INVALID_CRITERION_MSG = "    Ono! Criteria of a query must be " +
+            "module, difficulty, type, done or text :<";
+    public static final String INVALID_DIFFICULTY_MSG = "    Ono! Difficulty must be easy, normal or hard :<";
+    public static final String INVALID_TYPE_MSG = "    Ono! Type must be short or mcq :<";
+    public static final String INVALID_DONE_MSG = "    Ono! Done must be either true or false :<";
+    public static final int MAX_FUZZY_DISTANCE = 3;
+    public static final String INVALID_DISTANCE_MSG = "    Ono! Distance must be a whole number from 0 to " +
+            MAX_FUZZY_DISTANCE + " :<";
+    public static final int DEFAULT_RANKED_RESULTS = 10;
+    public static final String INVALID_TOP_MSG = "    Ono! Number of top results must be a positive whole number :<";
+    public static final List<String> QUERY_CRITERIA = List.of("module", "difficulty", "type", "done",
+            "text", "description");
     private final String searchCriteria;
     private final String searchDetails;
+    private final QuestionQuery searchQuery;
+    private final int maxDistance;
+    private final int maxResults;
 
     /**
      * Creates a new find command to search for a question.
@@ -23,9 +46,38 @@ public class CommandFind extends Command{
      * @param searchDetails User input containing details of what to search.
      */
     public CommandFind(String searchCriteria, String searchDetails){
+        this(searchCriteria, searchDetails, WordIndex.AUTOMATIC_DISTANCE, DEFAULT_RANKED_RESULTS);
+    }
+
+    /**
+     * Creates a new find command to search for a question, with the options of fuzzy and ranked searches.
+     *
+     * @param searchDetails User input containing details of what to search.
+     * @param maxDistance Number of typos allowed per keyword in fuzzy searches,
+     *                    or WordIndex.AUTOMATIC_DISTANCE to allow more typos in longer keywords.
+     * @param maxResults Number of most relevant questions shown in ranked searches.
+     */
+    public CommandFind(String searchCriteria, String searchDetails, int maxDistance, int maxResults){
         super((CommandType.FIND));
         this.searchCriteria = searchCriteria;
         this.searchDetails = searchDetails;
+        this.searchQuery = null;
+        this.maxDistance = maxDistance;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Creates a new find command to search for questions satisfying every condition of a query.
+     *
+     * @param searchQuery Query with the conditions to search by.
+     */
+    public CommandFind(QuestionQuery searchQuery){
+        super((CommandType.FIND));
+        this.searchCriteria = "";
+        this.searchDetails = "";
+        this.searchQuery = searchQuery;
+        this.maxDistance = WordIndex.AUTOMATIC_DISTANCE;
+        this.maxResults = DEFAULT_RANKED_RESULTS;
     }
 
     /**
@@ -39,10 +91,23 @@ public class CommandFind extends Command{
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
         assert questions != null && dataStorage != null && ui != null : "Invalid null parameter";
+        if (searchQuery != null) {
+            questions.searchListByQuery(searchQuery);
+            return;
+        }
         switch (searchCriteria) {
         case "description":
             questions.searchListByDescription(searchDetails);
             break;
+        case "keywords":
+            questions.searchListByKeywords(searchDetails);
+            break;
+        case "fuzzy":
+            questions.searchListByFuzzyKeywords(searchDetails, maxDistance);
+            break;
+        case "ranked":
+            questions.searchListByRelevance(searchDetails, maxResults);
+            break;
         case "module":
             questions.searchListByModule(searchDetails);
             break;
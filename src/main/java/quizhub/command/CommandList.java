@@ -1,21 +1,57 @@
 package quizhub.command;
 
+import quizhub.question.Question;
 import quizhub.storage.Storage;
 import quizhub.questionlist.QuestionList;
 import quizhub.ui.Ui;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 /**
- * Represents a command to list all questions.
+ * Represents a command to list all questions, or only those matching some filters.
  */
 public class CommandList extends Command {
     public static final String COMMAND_WORD = "list";
+    public static final String INVALID_FILTER_MSG = "    Ono! Filters must be a difficulty (easy, normal, hard), " +
+            "a question type (short, mcq) or a status (done, undone) :<";
+    public static final String INVALID_FORMAT_MSG = "    Please format your input as list or list /[filter] ...!";
+    public static final String NO_MATCHING_QN_MSG = "    No questions match the filters given :<";
+    private final Set<Question.QnType> qnTypes;
+    private final Set<Question.QnDifficulty> qnDifficulties;
+    private final Set<Boolean> doneStatuses;
+
     /**
      * Creates a new list command to list all questions.
      */
     public CommandList(){
+        this(EnumSet.noneOf(Question.QnType.class), EnumSet.noneOf(Question.QnDifficulty.class), Set.of());
+    }
+
+    /**
+     * Creates a new list command to list only the questions matching the given filters.
+     * A question matches if it has any of the given values for every kind of filter given.
+     * An empty set of values means that kind of filter is not applied.
+     *
+     * @param qnTypes Types of questions to be listed.
+     * @param qnDifficulties Difficulties of questions to be listed.
+     * @param doneStatuses Done statuses of questions to be listed, true being done.
+     */
+    public CommandList(Set<Question.QnType> qnTypes, Set<Question.QnDifficulty> qnDifficulties,
+                       Set<Boolean> doneStatuses){
         super(CommandType.LIST);
+        this.qnTypes = qnTypes;
+        this.qnDifficulties = qnDifficulties;
+        this.doneStatuses = doneStatuses;
     }
+
     /**
-     * Prints all questions in current question list.
+     * Prints all questions in current question list, or only those matching the filters.
+     * The bitmaps of the values of each kind of filter are OR'ed together,
+     * then the results of the different kinds of filters are AND'ed together.
+     * The filters are applied and the matches printed under one shared lock, so they all see the same questions.
      *
      * @param ui User interface for interactions with user through CLI.
      * @param questions Current question list in the program.
@@ -23,6 +59,35 @@ public class CommandList extends Command {
      */
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions){
-        questions.printQuestionList();
+        if (qnTypes.isEmpty() && qnDifficulties.isEmpty() && doneStatuses.isEmpty()) {
+            questions.printQuestionList();
+            return;
+        }
+        questions.runShared(() -> {
+            BitSet matchedIds = questions.getQuestionIds();
+            if (!qnTypes.isEmpty()) {
+                BitSet typeIds = new BitSet();
+                for (Question.QnType qnType : qnTypes) {
+                    typeIds.or(questions.getQuestionIdsByType(qnType));
+                }
+                matchedIds.and(typeIds);
+            }
+            if (!qnDifficulties.isEmpty()) {
+                BitSet difficultyIds = new BitSet();
+                for (Question.QnDifficulty qnDifficulty : qnDifficulties) {
+                    difficultyIds.or(questions.getQuestionIdsByDifficulty(qnDifficulty));
+                }
+                matchedIds.and(difficultyIds);
+            }
+            if (!doneStatuses.isEmpty()) {
+                BitSet doneStatusIds = new BitSet();
+                for (boolean isDone : doneStatuses) {
+                    doneStatusIds.or(questions.getQuestionIdsByDoneStatus(isDone));
+                }
+                matchedIds.and(doneStatusIds);
+            }
+            List<Question> matchedQuestions = questions.getQuestionsByIds(matchedIds);
+            questions.printQuestions(matchedQuestions, NO_MATCHING_QN_MSG);
+        });
     }
 }
@@ -1,11 +1,12 @@
 package quizhub.command;
 
 import quizhub.question.Question;
+import quizhub.questionlist.ChangeHistory;
 import quizhub.questionlist.QuestionList;
 import quizhub.storage.Storage;
 import quizhub.ui.Ui;
 /**
- * Represents a command to mark the difficulty of a question.
+ * Represents a command to mark the difficulty of a question, or of several questions at once.
  */
 public class CommandMarkDifficulty extends Command{
     public static final String COMMAND_WORD = "markdiff";
@@ -15,10 +16,13 @@ public class CommandMarkDifficulty extends Command{
             "to be assigned the question :<";
     public static final String INVALID_FORMAT_MSG = "    Please format your input as markdiff " +
             "[qn number] /[qn difficulty]!";
+    public static final String INVALID_BATCH_FORMAT_MSG = "    Please format your input as markdiff " +
+            "[qn numbers] /[qn difficulty], e.g. markdiff 1,4,9-20 /hard!";
     public static final String TOO_MANY_DIFFICULTY_MSG = "    Ono! You tried to assign more than 1 difficulty level :<";
     public static final String INDEX_NOT_IN_RANGE_MSG = "    Ono! The question index you entered is not in the " +
             "range of the question list :<";
     private final int qnIndex;
+    private final int[] qnIndexes; //list indexes of the questions marked together, or null for a single question
     private final Question.QnDifficulty qnDifficulty;
     /**
      * Creates a new command to mark the difficulty of a question of specified index.
@@ -29,17 +33,101 @@ public class CommandMarkDifficulty extends Command{
     public CommandMarkDifficulty(int qnIndex, Question.QnDifficulty qnDifficulty){
         super(CommandType.MARKDIFFICULTY);
         this.qnIndex = qnIndex;
+        this.qnIndexes = null;
+        this.qnDifficulty = qnDifficulty;
+    }
+    /**
+     * Creates a new command to mark the difficulty of several questions, which are marked and saved together.
+     *
+     * @param qnIndexes Distinct indexes of the questions which difficulty is to be marked.
+     * @param qnDifficulty Difficulty to be assigned to the questions.
+     */
+    public CommandMarkDifficulty(int[] qnIndexes, Question.QnDifficulty qnDifficulty){
+        super(CommandType.MARKDIFFICULTY);
+        this.qnIndex = 0;
+        this.qnIndexes = qnIndexes;
         this.qnDifficulty = qnDifficulty;
     }
 
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
-        assert qnDifficulty != null;
-        if(qnDifficulty == Question.QnDifficulty.INVALID) {
-            ui.displayMessage(Ui.INVALID_QUESTION_DIFFICULTY_MSG);
-            return;
+        questions.runExclusively(() -> {
+            assert qnDifficulty != null;
+            if(qnDifficulty == Question.QnDifficulty.INVALID) {
+                ui.displayMessage(Ui.INVALID_QUESTION_DIFFICULTY_MSG);
+                return;
+            }
+            if (qnIndexes != null) {
+                Question.QnDifficulty[] oldDifficulties = getDifficulties(questions, qnIndexes);
+                int[] markedIndexes = questions.markQuestionsDifficulty(qnIndexes, qnDifficulty, true);
+                if (markedIndexes.length > 0) {
+                    questions.getChangeHistory().record(new DifficultyChange(qnIndexes, oldDifficulties, qnDifficulty));
+                }
+                dataStorage.recordDifficulties(questions, markedIndexes, qnDifficulty);
+                return;
+            }
+            int[] markedIndex = {qnIndex};
+            Question.QnDifficulty[] oldDifficulty = getDifficulties(questions, markedIndex);
+            boolean isMarked = questions.markQuestionDifficulty(qnIndex, qnDifficulty, true);
+            if (isMarked) {
+                questions.getChangeHistory().record(new DifficultyChange(markedIndex, oldDifficulty, qnDifficulty));
+                dataStorage.recordDifficulty(questions, qnIndex, qnDifficulty);
+            }
+        });
+    }
+
+    /**
+     * Returns the current difficulty of each question, or null for a list index without a question.
+     */
+    private static Question.QnDifficulty[] getDifficulties(QuestionList questions, int[] qnIndexes) {
+        Question.QnDifficulty[] difficulties = new Question.QnDifficulty[qnIndexes.length];
+        for (int i = 0; i < qnIndexes.length; i++) {
+            Question question = questions.getQuestionByIndex(qnIndexes[i]);
+            difficulties[i] = question == null ? null : question.getDifficulty();
+        }
+        return difficulties;
+    }
+
+    /**
+     * Represents marking the difficulty of one or more questions, undone by putting back their old difficulties.
+     */
+    private static class DifficultyChange implements ChangeHistory.Change {
+        private final int[] qnIndexes;
+        private final Question.QnDifficulty[] oldDifficulties; //difficulty of each question before it was marked
+        private final Question.QnDifficulty newDifficulty;
+
+        private DifficultyChange(int[] qnIndexes, Question.QnDifficulty[] oldDifficulties,
+                                 Question.QnDifficulty newDifficulty) {
+            this.qnIndexes = qnIndexes;
+            this.oldDifficulties = oldDifficulties;
+            this.newDifficulty = newDifficulty;
+        }
+
+        @Override
+        public void undo(QuestionList questions) {
+            for (int i = 0; i < qnIndexes.length; i++) {
+                questions.markQuestionDifficulty(qnIndexes[i], oldDifficulties[i], false);
+            }
+        }
+
+        @Override
+        public void redo(QuestionList questions) {
+            questions.markQuestionsDifficulty(qnIndexes, newDifficulty, false);
+        }
+
+        @Override
+        public void saveUndo(QuestionList questions, Storage dataStorage) {
+            dataStorage.recordDifficulties(questions, qnIndexes, oldDifficulties);
+        }
+
+        @Override
+        public void saveRedo(QuestionList questions, Storage dataStorage) {
+            dataStorage.recordDifficulties(questions, qnIndexes, newDifficulty);
+        }
+
+        @Override
+        public String getDescription() {
+            return COMMAND_WORD;
         }
-        questions.markQuestionDifficulty(qnIndex, qnDifficulty, true);
-        dataStorage.updateData(questions);
     }
 }
@@ -61,8 +61,15 @@ public class CommandMultipleChoice extends Command {
      */
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions){
-        questions.addMultipleChoiceQn(description, option1, option2, option3,
-                option4, answer, module, qnDifficulty, true);
-        dataStorage.updateData(questions);
+        questions.runExclusively(() -> {
+            boolean isAdded = questions.addMultipleChoiceQn(description, option1, option2, option3,
+                    option4, answer, module, qnDifficulty, true);
+            if (isAdded) {
+                int qnIndex = questions.getQuestionListSize();
+                Question addedQuestion = questions.getQuestionByIndex(qnIndex);
+                questions.getChangeHistory().record(new QuestionAddition(COMMAND_WORD, qnIndex, addedQuestion));
+                dataStorage.recordAddition(questions, addedQuestion);
+            }
+        });
     }
 }
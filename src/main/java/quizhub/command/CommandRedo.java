@@ -0,0 +1,41 @@
+package quizhub.command;
+
+import quizhub.questionlist.ChangeHistory;
+import quizhub.questionlist.QuestionList;
+import quizhub.storage.Storage;
+import quizhub.ui.Ui;
+/**
+ * Represents a command to redo the latest change to the question list that was undone.
+ */
+public class CommandRedo extends Command {
+    public static final String COMMAND_WORD = "redo";
+    public static final String NOTHING_TO_REDO_MSG = "    Nothing to redo! No changes made!";
+    public static final String REDONE_MSG = "    Roger that! I have redone the last ";
+    /**
+     * Creates a new redo command.
+     */
+    public CommandRedo() {
+        super(CommandType.REDO);
+    }
+    /**
+     * Redoes the latest undone change to the question list and saves the question list.
+     * The change saves itself, journaling the change again where a journal record can describe it,
+     * and writing a fresh snapshot otherwise, such as when the order of the questions changed.
+     *
+     * @param ui User interface for interactions with user through CLI.
+     * @param questions Current question list in the program.
+     * @param dataStorage Hard disk storage for storing question data.
+     */
+    @Override
+    public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
+        questions.runExclusively(() -> {
+            ChangeHistory.Change change = questions.getChangeHistory().redo(questions);
+            if (change == null) {
+                ui.displayMessage(NOTHING_TO_REDO_MSG);
+                return;
+            }
+            ui.displayMessage(REDONE_MSG + change.getDescription() + " >w< !");
+            change.saveRedo(questions, dataStorage);
+        });
+    }
+}
@@ -47,8 +47,15 @@ public class CommandShortAnswer extends Command {
      */
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions){
-        questions.addShortAnswerQn(description, answer, module, qnDifficulty, true);
-        dataStorage.updateData(questions);
+        questions.runExclusively(() -> {
+            boolean isAdded = questions.addShortAnswerQn(description, answer, module, qnDifficulty, true);
+            if (isAdded) {
+                int qnIndex = questions.getQuestionListSize();
+                Question addedQuestion = questions.getQuestionByIndex(qnIndex);
+                questions.getChangeHistory().record(new QuestionAddition(COMMAND_WORD, qnIndex, addedQuestion));
+                dataStorage.recordAddition(questions, addedQuestion);
+            }
+        });
     }
 
 }
@@ -1,9 +1,12 @@
 package quizhub.command;
 
+import quizhub.questionlist.ChangeHistory;
 import quizhub.questionlist.QuestionList;
 import quizhub.storage.Storage;
 import quizhub.ui.Ui;
 
+import java.util.Random;
+
 public class CommandShuffle extends Command {
     public static final String COMMAND_WORD = "shuffle";
     public CommandShuffle() {
@@ -11,6 +14,50 @@ public class CommandShuffle extends Command {
     }
     @Override
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
-        questions.shuffleQuestions(ui);
+        questions.runExclusively(() -> {
+            long seed = new Random().nextLong();
+            questions.shuffleQuestions(ui, seed);
+            questions.getChangeHistory().record(new Shuffle(seed));
+            // journal records refer to list positions, so a new order is saved as a fresh snapshot
+            dataStorage.updateData(questions);
+        });
+    }
+
+    /**
+     * Represents a shuffle of the questions, kept as the seed of its random order
+     * so that the order can be made again, and reversed, without keeping a copy of it.
+     * Journal records refer to list positions, so the order is saved as a fresh snapshot either way.
+     */
+    private static class Shuffle implements ChangeHistory.Change {
+        private final long seed;
+
+        private Shuffle(long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        public void undo(QuestionList questions) {
+            questions.unshuffleQuestions(seed);
+        }
+
+        @Override
+        public void redo(QuestionList questions) {
+            questions.shuffleQuestions(seed);
+        }
+
+        @Override
+        public void saveUndo(QuestionList questions, Storage dataStorage) {
+            dataStorage.updateData(questions);
+        }
+
+        @Override
+        public void saveRedo(QuestionList questions, Storage dataStorage) {
+            dataStorage.updateData(questions);
+        }
+
+        @Override
+        public String getDescription() {
+            return COMMAND_WORD;
+        }
     }
 }
@@ -1,15 +1,18 @@
 package quizhub.command;
 
-import quizhub.exception.QuizHubExceptions;
 import quizhub.question.Question;
 import quizhub.storage.Storage;
+import quizhub.questionlist.QueryCondition;
 import quizhub.questionlist.QuestionList;
+import quizhub.questionlist.QuestionQuery;
 import quizhub.ui.Ui;
-import quizhub.question.ShortAnsQn;
-import quizhub.question.MultipleChoiceQn;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
 
 /**
  * Command to Start the Quiz
@@ -66,63 +69,65 @@ public class CommandStart extends Command{
     public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
         assert questions != null && ui != null && dataStorage != null;
 
-        ArrayList<Question> matchedQuestions = getMatchedQuestions(questions);
+        List<Question> matchedQuestions = getMatchedQuestions(questions);
         if (matchedQuestions == null) {
             ui.displayMessage("    Please enter a valid quiz mode :<");
             return;
         }
 
-        matchedQuestions = filterQuestionsByType(matchedQuestions);
-        arrangeQuestions(matchedQuestions);
-
-        questions.startQuiz(ui, matchedQuestions);
+        questions.startQuiz(ui, arrangeQuestions(matchedQuestions));
     }
 
-    private ArrayList<Question> getMatchedQuestions(QuestionList questions) {
+    private List<Question> getMatchedQuestions(QuestionList questions) {
+        List<QueryCondition> conditions = new ArrayList<>();
+        QueryCondition moduleCondition = null;
         switch (startMode.toLowerCase()) {
         case "module":
             assert startDetails != null;
-            String[] modules  = startDetails.split(" ");
-            try {
-                return questions.assembleListByModules(modules);
-            } catch (QuizHubExceptions emptyList) {
-                System.out.println(emptyList.getMessage());
-                return null;
-            }
+            moduleCondition = QueryCondition.moduleIn(Arrays.asList(startDetails.strip().split(" +")));
+            conditions.add(moduleCondition);
+            break;
         case "all":
-            return questions.getAllQns();
+            break;
         default:
             return null;
         }
-    }
-
-    private ArrayList<Question> filterQuestionsByType(ArrayList<Question> matchedQuestions) {
-        if (startQnType.equals("mix")) {
-            return matchedQuestions;
+        switch (startQnType) {
+        case "short":
+            conditions.add(QueryCondition.typeIn(EnumSet.of(Question.QnType.SHORTANSWER)));
+            break;
+        case "mcq":
+            conditions.add(QueryCondition.typeIn(EnumSet.of(Question.QnType.MULTIPLECHOICE)));
+            break;
+        default:
+            // 'mix' quizzes take questions of every type
+            break;
         }
-        ArrayList<Question> filteredQuestions = new ArrayList<>();
-        for (Question question : matchedQuestions) {
-            if (startQnType.equals("short") && question instanceof ShortAnsQn) {
-                filteredQuestions.add(question);
-            }
-            if (startQnType.equals("mcq") && question instanceof MultipleChoiceQn) {
-                filteredQuestions.add(question);
-            }
+        if (conditions.isEmpty()) {
+            // the current vector of all questions, held by the quiz as is instead of being copied
+            return questions.getAllQns();
         }
-        return filteredQuestions;
+        ArrayList<Question> matchedQuestions = questions.searchByQuery(new QuestionQuery(conditions));
+        if (moduleCondition != null) {
+            // questions of each module are asked in the order the modules were given
+            matchedQuestions.sort(Comparator.comparingInt(moduleCondition::getMatchedModuleIndex));
+        }
+        return matchedQuestions;
     }
 
-    private void arrangeQuestions(ArrayList<Question> matchedQuestions) {
+    private List<Question> arrangeQuestions(List<Question> matchedQuestions) {
         switch(startQnMode.toLowerCase()) {
         case "random":
-            Collections.shuffle(matchedQuestions); // shuffles matched Questions
-            break;
+            // a new list, so that a random quiz order does not reorder the question list itself
+            ArrayList<Question> shuffledQuestions = new ArrayList<>(matchedQuestions);
+            Collections.shuffle(shuffledQuestions); // shuffles matched Questions
+            return shuffledQuestions;
         case "normal":
             // For 'normal', no action is needed as the list is already in order.
-            break;
+            return matchedQuestions;
         default:
             // In case of an invalid mode, it will be handled before this method is called.
-            break;
+            return matchedQuestions;
         }
     }
 
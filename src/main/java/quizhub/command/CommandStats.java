@@ -0,0 +1,28 @@
+package quizhub.command;
+
+import quizhub.questionlist.QuestionList;
+import quizhub.storage.Storage;
+import quizhub.ui.Ui;
+/**
+ * Represents a command to show the number of questions in total, by type, by difficulty and by module.
+ */
+public class CommandStats extends Command {
+    public static final String COMMAND_WORD = "stats";
+    /**
+     * Creates a new stats command.
+     */
+    public CommandStats() {
+        super(CommandType.STATS);
+    }
+    /**
+     * Prints the statistics of the current question list.
+     *
+     * @param ui User interface for interactions with user through CLI.
+     * @param questions Current question list in the program.
+     * @param dataStorage Hard disk storage for storing question data.
+     */
+    @Override
+    public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
+        questions.printStatistics();
+    }
+}
@@ -0,0 +1,41 @@
+package quizhub.command;
+
+import quizhub.questionlist.ChangeHistory;
+import quizhub.questionlist.QuestionList;
+import quizhub.storage.Storage;
+import quizhub.ui.Ui;
+/**
+ * Represents a command to undo the latest change made to the question list that has not been undone.
+ */
+public class CommandUndo extends Command {
+    public static final String COMMAND_WORD = "undo";
+    public static final String NOTHING_TO_UNDO_MSG = "    Nothing to undo! No changes made!";
+    public static final String UNDONE_MSG = "    Roger that! I have undone the last ";
+    /**
+     * Creates a new undo command.
+     */
+    public CommandUndo() {
+        super(CommandType.UNDO);
+    }
+    /**
+     * Undoes the latest change to the question list that has not been undone and saves the question list.
+     * The change saves itself, journaling its reverse where a journal record can describe it,
+     * and writing a fresh snapshot otherwise, such as when the order of the questions changed.
+     *
+     * @param ui User interface for interactions with user through CLI.
+     * @param questions Current question list in the program.
+     * @param dataStorage Hard disk storage for storing question data.
+     */
+    @Override
+    public void executeCommand(Ui ui, Storage dataStorage, QuestionList questions) {
+        questions.runExclusively(() -> {
+            ChangeHistory.Change change = questions.getChangeHistory().undo(questions);
+            if (change == null) {
+                ui.displayMessage(NOTHING_TO_UNDO_MSG);
+                return;
+            }
+            ui.displayMessage(UNDONE_MSG + change.getDescription() + " >w< !");
+            change.saveUndo(questions, dataStorage);
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package quizhub.command;
+
+import quizhub.question.Question;
+import quizhub.questionlist.ChangeHistory;
+import quizhub.questionlist.QuestionList;
+import quizhub.storage.Storage;
+
+import java.util.List;
+
+/**
+ * Represents the addition of a question to the back of the question list by an add command,
+ * undone by deleting the question and redone by putting the same question back.
+ */
+class QuestionAddition implements ChangeHistory.Change {
+    private final String commandWord;
+    private final int qnIndex;
+    private final Question addedQuestion;
+
+    /**
+     * Creates a new record of an added question.
+     *
+     * @param commandWord The command word of the command that added the question.
+     * @param qnIndex The list index of the added question.
+     * @param addedQuestion The added question.
+     */
+    QuestionAddition(String commandWord, int qnIndex, Question addedQuestion) {
+        this.commandWord = commandWord;
+        this.qnIndex = qnIndex;
+        this.addedQuestion = addedQuestion;
+    }
+
+    @Override
+    public void undo(QuestionList questions) {
+        questions.deleteQuestionByIndex(qnIndex, false);
+    }
+
+    @Override
+    public void redo(QuestionList questions) {
+        questions.insertQuestions(new int[] {qnIndex}, List.of(addedQuestion));
+    }
+
+    @Override
+    public void saveUndo(QuestionList questions, Storage dataStorage) {
+        dataStorage.recordDeletion(questions, qnIndex);
+    }
+
+    @Override
+    public void saveRedo(QuestionList questions, Storage dataStorage) {
+        if (qnIndex == questions.getQuestionListSize()) {
+            dataStorage.recordAddition(questions, addedQuestion);
+        } else {
+            // an add record always appends, so a question put back before others is saved as a fresh snapshot
+            dataStorage.updateData(questions);
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return commandWord;
+    }
+}
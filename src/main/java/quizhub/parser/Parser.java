@@ -1,29 +1,45 @@
 package quizhub.parser;
 
 import quizhub.command.Command;
+import quizhub.command.CommandDedup;
 import quizhub.command.CommandDelete;
 import quizhub.command.CommandEdit;
 import quizhub.command.CommandExit;
+import quizhub.command.CommandExport;
 import quizhub.command.CommandFind;
 import quizhub.command.CommandHelp;
 import quizhub.command.CommandInvalid;
 import quizhub.command.CommandList;
 import quizhub.command.CommandMarkDifficulty;
 import quizhub.command.CommandMultipleChoice;
+import quizhub.command.CommandRedo;
 import quizhub.command.CommandShortAnswer;
 import quizhub.command.CommandShuffle;
 import quizhub.command.CommandStart;
+import quizhub.command.CommandStats;
+import quizhub.command.CommandUndo;
 import quizhub.question.Question;
 import quizhub.question.Question.QnType;
+import quizhub.questionlist.QueryCondition;
+import quizhub.questionlist.QuestionQuery;
 import quizhub.questionlist.QuestionList;
+import quizhub.questionlist.WordIndex;
 import quizhub.ui.Ui;
 import quizhub.exception.QuizHubExceptions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Represents a parser that converts user inputs into command objects.
  */
 public class Parser {
-    private static QuestionList questions;
+    private static volatile QuestionList questions;
 
     public Parser(QuestionList questions) {
         Parser.questions = questions;
@@ -50,7 +66,7 @@ public class Parser {
             case CommandExit.COMMAND_WORD:
                 return new CommandExit();
             case CommandList.COMMAND_WORD:
-                return new CommandList();
+                return parseListCommand(userInput);
             case CommandShortAnswer.COMMAND_WORD:
                 return parseShortAnswerCommand(userInput);
             case CommandMultipleChoice.COMMAND_WORD:
@@ -69,6 +85,16 @@ public class Parser {
                 return parseMarkDiffCommand(userInput);
             case CommandHelp.COMMAND_WORD:
                 return new CommandHelp();
+            case CommandExport.COMMAND_WORD:
+                return parseExportCommand(userInput);
+            case CommandDedup.COMMAND_WORD:
+                return parseDedupCommand(userInput);
+            case CommandStats.COMMAND_WORD:
+                return new CommandStats();
+            case CommandUndo.COMMAND_WORD:
+                return new CommandUndo();
+            case CommandRedo.COMMAND_WORD:
+                return new CommandRedo();
             default:
                 return new CommandInvalid(Ui.INVALID_COMMAND_MSG + System.lineSeparator() +
                         Ui.INVALID_COMMAND_FEEDBACK);
@@ -120,6 +146,49 @@ public class Parser {
         }
     }
 
+    /**
+     * Checks if the question numbers given to a command are a list or range of question numbers,
+     * such as 1,4,9-20, rather than a single question number.
+     * A leading minus sign is part of a single (invalid) question number rather than a range.
+     *
+     * @param qnIndexList The question numbers given to the command.
+     */
+    private static boolean isQnIndexList(String qnIndexList) {
+        return qnIndexList.contains(",") || qnIndexList.indexOf('-') > 0;
+    }
+
+    /**
+     * Extracts the question indexes from a list of question numbers and ranges of question numbers
+     * separated by commas, such as 1,4,9-20.
+     *
+     * @param qnIndexList The list of question numbers and ranges.
+     * @return the distinct question indexes in ascending order
+     * @throws NumberFormatException If a question number is not a positive integer.
+     * @throws QuizHubExceptions If a range is reversed or a question number is not in the question list.
+     */
+    private static int[] extractQnIndexes(String qnIndexList) throws NumberFormatException, QuizHubExceptions {
+        BitSet qnIndexes = new BitSet();
+        for (String qnIndexRange : qnIndexList.split(",", -1)) {
+            String[] rangeEnds = qnIndexRange.split("-", -1);
+            if (rangeEnds.length > 2) {
+                throw new NumberFormatException();
+            }
+            int firstIndex = Integer.parseInt(rangeEnds[0].strip());
+            int lastIndex = Integer.parseInt(rangeEnds[rangeEnds.length - 1].strip());
+            if (firstIndex <= 0) {
+                throw new NumberFormatException();
+            }
+            if (firstIndex > lastIndex) {
+                throw new QuizHubExceptions(Ui.INVALID_INDEX_RANGE_MSG);
+            }
+            if (lastIndex > questions.getQuestionListSize()) {
+                throw new QuizHubExceptions(QuestionList.INVALID_QN_MSG);
+            }
+            qnIndexes.set(firstIndex, lastIndex + 1);
+        }
+        return qnIndexes.stream().toArray();
+    }
+
     /**
      * Extracts the question index from raw user input for commands with arguments.
      *
@@ -259,6 +328,18 @@ public class Parser {
         assert userInput != null : "Invalid Null Command!";
         int qnIndex;
         String[] editDetails;
+        String qnIndexList = userInput.substring(CommandDelete.COMMAND_WORD.length()).strip();
+        if (isQnIndexList(qnIndexList)) {
+            try {
+                return new CommandDelete(extractQnIndexes(qnIndexList));
+            } catch (NumberFormatException invalidIndex) {
+                return new CommandInvalid(Ui.INVALID_INTEGER_INDEX_MSG + System.lineSeparator() +
+                        CommandDelete.INVALID_FORMAT_MSG);
+            } catch (QuizHubExceptions invalidRange) {
+                return new CommandInvalid(invalidRange.getMessage() + System.lineSeparator() +
+                        CommandDelete.INVALID_FORMAT_MSG);
+            }
+        }
         try {
             editDetails = userInput.split(" ");
             if (editDetails.length > 2) {
@@ -278,6 +359,23 @@ public class Parser {
         }
     }
 
+    /**
+     * Attempt to parse user input into an Export Command by extracting the
+     * file path to export questions to.
+     *
+     * @param userInput Raw command entered by the user
+     * @return Export command or an Invalid Command
+     */
+    private static Command parseExportCommand(String userInput) {
+        assert userInput != null : "Invalid Null Command!";
+        String[] exportDetails = userInput.split(" ", 2);
+        if (exportDetails.length < 2 || exportDetails[1].isBlank()) {
+            return new CommandInvalid(CommandExport.MISSING_PATH_MSG + System.lineSeparator() +
+                    CommandExport.INVALID_FORMAT_MSG);
+        }
+        return new CommandExport(exportDetails[1].strip());
+    }
+
     /**
      * Attempt to parse user input into a Find Command by extracting search
      * condition/keyword from user input.
@@ -295,15 +393,248 @@ public class Parser {
             return new CommandInvalid(CommandFind.MISSING_CRITERIA_MSG + System.lineSeparator() +
                     CommandFind.INVALID_FORMAT_MSG);
         }
+        String[] searchConditions = userInput.split("/");
+        if (isFindQuery(searchConditions)) {
+            return parseFindQuery(searchConditions);
+        }
         try {
             searchKeyword = userInput.split("/" + searchCriteria)[1].strip();
         } catch (ArrayIndexOutOfBoundsException incompleteCommand) {
             return new CommandInvalid(CommandFind.MISSING_KEYWORD_MSG + System.lineSeparator() +
                     CommandFind.INVALID_FORMAT_MSG);
         }
+        if (searchCriteria.equals("fuzzy")) {
+            return parseFuzzyFindCommand(searchKeyword);
+        }
+        if (searchCriteria.equals("ranked")) {
+            return parseRankedFindCommand(searchKeyword);
+        }
         return new CommandFind(searchCriteria, searchKeyword);
     }
 
+    /**
+     * Attempt to parse the details of a fuzzy find command into a Find Command by extracting
+     * the keywords and the optional number of typos allowed per keyword after "/distance".
+     *
+     * @param fuzzyDetails User input after the "/fuzzy" criterion
+     * @return Find command or an Invalid Command
+     */
+    private static Command parseFuzzyFindCommand(String fuzzyDetails) {
+        String[] fuzzyTokens = fuzzyDetails.split("/distance");
+        String keywords = fuzzyTokens[0].strip();
+        if (keywords.isEmpty()) {
+            return new CommandInvalid(CommandFind.MISSING_KEYWORD_MSG + System.lineSeparator() +
+                    CommandFind.INVALID_FORMAT_MSG);
+        }
+        if (fuzzyTokens.length == 1) {
+            return new CommandFind("fuzzy", keywords);
+        }
+        try {
+            int maxDistance = Integer.parseInt(fuzzyTokens[1].strip());
+            if (maxDistance < 0 || maxDistance > CommandFind.MAX_FUZZY_DISTANCE) {
+                throw new NumberFormatException();
+            }
+            return new CommandFind("fuzzy", keywords, maxDistance, CommandFind.DEFAULT_RANKED_RESULTS);
+        } catch (NumberFormatException invalidDistance) {
+            return new CommandInvalid(CommandFind.INVALID_DISTANCE_MSG + System.lineSeparator() +
+                    CommandFind.INVALID_FORMAT_MSG);
+        }
+    }
+
+    /**
+     * Attempt to parse the details of a ranked find command into a Find Command by extracting
+     * the keywords and the optional number of most relevant questions to show after "/top".
+     *
+     * @param rankedDetails User input after the "/ranked" criterion
+     * @return Find command or an Invalid Command
+     */
+    private static Command parseRankedFindCommand(String rankedDetails) {
+        String[] rankedTokens = rankedDetails.split("/top");
+        String keywords = rankedTokens[0].strip();
+        if (keywords.isEmpty()) {
+            return new CommandInvalid(CommandFind.MISSING_KEYWORD_MSG + System.lineSeparator() +
+                    CommandFind.INVALID_FORMAT_MSG);
+        }
+        if (rankedTokens.length == 1) {
+            return new CommandFind("ranked", keywords);
+        }
+        try {
+            int maxResults = Integer.parseInt(rankedTokens[1].strip());
+            if (maxResults <= 0) {
+                throw new NumberFormatException();
+            }
+            return new CommandFind("ranked", keywords, WordIndex.AUTOMATIC_DISTANCE, maxResults);
+        } catch (NumberFormatException invalidTop) {
+            return new CommandInvalid(CommandFind.INVALID_TOP_MSG + System.lineSeparator() +
+                    CommandFind.INVALID_FORMAT_MSG);
+        }
+    }
+
+    /**
+     * Checks if the criteria of a find command form a query rather than a single search criterion.
+     * Every criterion must be a query criterion, and there must either be several of them
+     * or one that cannot be searched by alone.
+     *
+     * @param searchConditions User input split at every "/", with each part after the first being a criterion
+     *                         followed by its values.
+     */
+    private static boolean isFindQuery(String[] searchConditions) {
+        for (int i = 1; i < searchConditions.length; i++) {
+            String searchCriteria = searchConditions[i].strip().split(" ")[0].toLowerCase();
+            if (!CommandFind.QUERY_CRITERIA.contains(searchCriteria)) {
+                return false;
+            }
+        }
+        if (searchConditions.length > 2) {
+            return true;
+        }
+        String searchCriteria = searchConditions[1].strip().split(" ")[0].toLowerCase();
+        return !searchCriteria.equals("module") && !searchCriteria.equals("description");
+    }
+
+    /**
+     * Attempt to parse the criteria of a find command into a Find Command with a query
+     * for the questions satisfying all of them.
+     *
+     * @param searchConditions User input split at every "/", with each part after the first being a criterion
+     *                         followed by its values.
+     * @return Find command or an Invalid Command
+     */
+    private static Command parseFindQuery(String[] searchConditions) {
+        List<QueryCondition> conditions = new ArrayList<>();
+        for (int i = 1; i < searchConditions.length; i++) {
+            String[] conditionTokens = searchConditions[i].strip().split(" ", 2);
+            if (conditionTokens.length < 2 || conditionTokens[1].isBlank()) {
+                return new CommandInvalid(CommandFind.MISSING_KEYWORD_MSG + System.lineSeparator() +
+                        CommandFind.INVALID_QUERY_FORMAT_MSG);
+            }
+            try {
+                conditions.add(parseQueryCondition(conditionTokens[0].toLowerCase(), conditionTokens[1].strip()));
+            } catch (IllegalArgumentException invalidCondition) {
+                return new CommandInvalid(invalidCondition.getMessage() + System.lineSeparator() +
+                        CommandFind.INVALID_QUERY_FORMAT_MSG);
+            }
+        }
+        return new CommandFind(new QuestionQuery(conditions));
+    }
+
+    /**
+     * Converts a criterion of a query and its values into a query condition.
+     * Values are separated by spaces, except for text which is searched for as a whole.
+     *
+     * @param criterion The question field the condition is on.
+     * @param values The values accepted by the condition.
+     * @return the query condition
+     * @throws IllegalArgumentException If the criterion or any of its values is invalid.
+     */
+    public static QueryCondition parseQueryCondition(String criterion, String values)
+            throws IllegalArgumentException {
+        String[] valueTokens = values.split(" +");
+        switch (criterion) {
+        case "module":
+            return QueryCondition.moduleIn(Arrays.asList(valueTokens));
+        case "difficulty":
+            Set<Question.QnDifficulty> qnDifficulties = EnumSet.noneOf(Question.QnDifficulty.class);
+            for (String valueToken : valueTokens) {
+                Question.QnDifficulty qnDifficulty = extractQuestionDifficulty(valueToken);
+                if (qnDifficulty.equals(Question.QnDifficulty.INVALID)) {
+                    throw new IllegalArgumentException(CommandFind.INVALID_DIFFICULTY_MSG);
+                }
+                qnDifficulties.add(qnDifficulty);
+            }
+            return QueryCondition.difficultyIn(qnDifficulties);
+        case "type":
+            Set<QnType> qnTypes = EnumSet.noneOf(QnType.class);
+            for (String valueToken : valueTokens) {
+                switch (valueToken.toLowerCase()) {
+                case "short":
+                    qnTypes.add(QnType.SHORTANSWER);
+                    break;
+                case "mcq":
+                    qnTypes.add(QnType.MULTIPLECHOICE);
+                    break;
+                default:
+                    throw new IllegalArgumentException(CommandFind.INVALID_TYPE_MSG);
+                }
+            }
+            return QueryCondition.typeIn(qnTypes);
+        case "done":
+            if (valueTokens.length != 1 || (!values.equalsIgnoreCase("true") && !values.equalsIgnoreCase("false"))) {
+                throw new IllegalArgumentException(CommandFind.INVALID_DONE_MSG);
+            }
+            return QueryCondition.doneStatusIs(Boolean.parseBoolean(values));
+        case "text":
+        case "description":
+            return QueryCondition.textContains(values);
+        default:
+            throw new IllegalArgumentException(CommandFind.INVALID_CRITERION_MSG);
+        }
+    }
+
+    /**
+     * Attempt to parse user input into a List Command by extracting the filters
+     * after each "/" in the user input.
+     * The filters can be question difficulties, question types and done statuses.
+     *
+     * @param userInput Raw command entered by the user
+     * @return List command or an Invalid Command
+     */
+    private static Command parseListCommand(String userInput) {
+        assert userInput != null : "Invalid Null Command!";
+        String[] listFilters = userInput.split("/");
+        Set<Question.QnType> qnTypes = EnumSet.noneOf(Question.QnType.class);
+        Set<Question.QnDifficulty> qnDifficulties = EnumSet.noneOf(Question.QnDifficulty.class);
+        Set<Boolean> doneStatuses = new HashSet<>();
+        for (int i = 1; i < listFilters.length; i++) {
+            String listFilter = listFilters[i].strip().toLowerCase();
+            switch (listFilter) {
+            case "short":
+                qnTypes.add(Question.QnType.SHORTANSWER);
+                break;
+            case "mcq":
+                qnTypes.add(Question.QnType.MULTIPLECHOICE);
+                break;
+            case "done":
+                doneStatuses.add(true);
+                break;
+            case "undone":
+                doneStatuses.add(false);
+                break;
+            default:
+                Question.QnDifficulty qnDifficulty = extractQuestionDifficulty(listFilter);
+                if (qnDifficulty.equals(Question.QnDifficulty.INVALID)) {
+                    return new CommandInvalid(CommandList.INVALID_FILTER_MSG + System.lineSeparator() +
+                            CommandList.INVALID_FORMAT_MSG);
+                }
+                qnDifficulties.add(qnDifficulty);
+            }
+        }
+        return new CommandList(qnTypes, qnDifficulties, doneStatuses);
+    }
+
+    /**
+     * Attempt to parse user input into a Dedup Command, which either reports near-duplicate questions
+     * or, given /on or /off, turns the near-duplicate check on adding questions on or off.
+     *
+     * @param userInput Raw command entered by the user
+     * @return Dedup command or an Invalid Command
+     */
+    private static Command parseDedupCommand(String userInput) {
+        assert userInput != null : "Invalid Null Command!";
+        String dedupOption = userInput.substring(CommandDedup.COMMAND_WORD.length()).strip().toLowerCase();
+        switch (dedupOption) {
+        case "":
+            return new CommandDedup();
+        case "/on":
+            return new CommandDedup(true);
+        case "/off":
+            return new CommandDedup(false);
+        default:
+            return new CommandInvalid(CommandDedup.INVALID_OPTION_MSG + System.lineSeparator() +
+                    CommandDedup.INVALID_FORMAT_MSG);
+        }
+    }
+
     /**
      * Attempt to parse user input into an Edit Command by extracting question index
      * and question details to be edited from the user input.
@@ -315,6 +646,9 @@ public class Parser {
         assert userInput != null : "Invalid Null Command!";
         String[] commandEditTokens = new String[2];
         int qnIndex;
+        if (userInput.substring(CommandEdit.COMMAND_WORD.length()).strip().startsWith("/module")) {
+            return parseModuleEditCommand(userInput);
+        }
         try {
             qnIndex = extractQnIndex(userInput, "edit");
         } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException | QuizHubExceptions incorrectQnIndex) {
@@ -338,6 +672,28 @@ public class Parser {
         return new CommandEdit(qnIndex, editField, newValue);
     }
 
+    /**
+     * Attempt to parse user input into an Edit Command moving every question of a module
+     * to another module, given as edit /module [old module] /module [new module].
+     *
+     * @param userInput Raw command entered by the user
+     * @return Edit command or an Invalid Command
+     */
+    private static Command parseModuleEditCommand(String userInput) {
+        String[] modules = userInput.substring(CommandEdit.COMMAND_WORD.length()).split("/", -1);
+        if (modules.length != 3 || !modules[1].startsWith("module") || !modules[2].startsWith("module")) {
+            return new CommandInvalid(CommandEdit.INVALID_MODULE_EDIT_MSG + System.lineSeparator() +
+                    CommandEdit.INVALID_FORMAT_MSG);
+        }
+        String oldModule = modules[1].substring("module".length()).strip();
+        String newModule = modules[2].substring("module".length()).replace("|", "").strip();
+        if (oldModule.isEmpty() || newModule.isEmpty()) {
+            return new CommandInvalid(CommandEdit.INVALID_MODULE_EDIT_MSG + System.lineSeparator() +
+                    CommandEdit.INVALID_FORMAT_MSG);
+        }
+        return new CommandEdit(oldModule, newModule);
+    }
+
     /**
      * Extracts the edit criteria from raw user input for edit commands.
      * Respective information is extracted into commandEditTokens.
@@ -760,6 +1116,10 @@ public class Parser {
     private static Command parseMarkDiffCommand(String userInput) {
         int qnIndex;
         Question.QnDifficulty qnDifficulty;
+        String qnIndexList = userInput.substring(CommandMarkDifficulty.COMMAND_WORD.length()).split("/")[0].strip();
+        if (isQnIndexList(qnIndexList)) {
+            return parseBatchMarkDiffCommand(userInput, qnIndexList);
+        }
         try {
             qnIndex = extractQnIndex(userInput, "markdiff");
         } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException | QuizHubExceptions incorrectQnIndex) {
@@ -773,6 +1133,32 @@ public class Parser {
         return new CommandMarkDifficulty(qnIndex, qnDifficulty);
     }
 
+    /**
+     * Attempt to parse user input into a Markdiff Command for several questions by extracting
+     * the list of question numbers and the new difficulty from the user input.
+     *
+     * @param userInput Raw command entered by the user
+     * @param qnIndexList The list of question numbers and ranges before the difficulty
+     * @return Markdiff command or an Invalid Command
+     */
+    private static Command parseBatchMarkDiffCommand(String userInput, String qnIndexList) {
+        int[] qnIndexes;
+        try {
+            qnIndexes = extractQnIndexes(qnIndexList);
+        } catch (NumberFormatException invalidIndex) {
+            return new CommandInvalid(Ui.INVALID_INTEGER_INDEX_MSG + System.lineSeparator() +
+                    CommandMarkDifficulty.INVALID_BATCH_FORMAT_MSG);
+        } catch (QuizHubExceptions invalidRange) {
+            return new CommandInvalid(invalidRange.getMessage() + System.lineSeparator() +
+                    CommandMarkDifficulty.INVALID_BATCH_FORMAT_MSG);
+        }
+        try {
+            return new CommandMarkDifficulty(qnIndexes, extractNewDifficulty(userInput));
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException incorrectQnDifficulty) {
+            return handleQnDifficultyExceptions(incorrectQnDifficulty);
+        }
+    }
+
     /**
      * Extracts the question difficulty to be assigned from raw user input for
      * markdiff commands.
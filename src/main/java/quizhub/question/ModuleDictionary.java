@@ -0,0 +1,51 @@
+package quizhub.question;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents a dictionary of the module names of questions, each stored once and given a small ID,
+ * so every question keeps the ID of its module instead of its own copy of the name.
+ * Module names are matched exactly, as they are written, so modules differing in case get different IDs.
+ */
+class ModuleDictionary {
+    private final Map<String, Integer> moduleIds;
+    private volatile String[] modules; //module name of each ID, from 0 up to the number of modules
+    private int numModules;
+
+    /**
+     * Creates a new empty module dictionary.
+     */
+    ModuleDictionary() {
+        moduleIds = new HashMap<>();
+        modules = new String[16];
+        numModules = 0;
+    }
+
+    /**
+     * Returns the ID of a module, adding the module to the dictionary if it is new.
+     *
+     * @param module The module name.
+     */
+    synchronized int getId(String module) {
+        Integer moduleId = moduleIds.get(module);
+        if (moduleId != null) {
+            return moduleId;
+        }
+        String[] grownModules = numModules == modules.length ? Arrays.copyOf(modules, numModules * 2) : modules;
+        grownModules[numModules] = module;
+        moduleIds.put(module, numModules);
+        modules = grownModules;
+        return numModules++;
+    }
+
+    /**
+     * Returns the name of the module with an ID.
+     *
+     * @param moduleId The ID given to the module by {@link #getId(String)}.
+     */
+    String getModule(int moduleId) {
+        return modules[moduleId];
+    }
+}
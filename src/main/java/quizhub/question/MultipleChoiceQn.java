@@ -3,10 +3,10 @@ package quizhub.question;
 public class MultipleChoiceQn extends Question {
     public static final String IDENTIFIER = "M";
     public static final String INVALID_CHOICE_MSG = "    Invalid response! Please enter a number between 1 and 4.";
-    private String option1;
-    private String option2;
-    private String option3;
-    private String option4;
+    private long option1; //handles of the options in the text arena
+    private long option2;
+    private long option3;
+    private long option4;
     private int answer;
 
     /**
@@ -20,14 +20,38 @@ public class MultipleChoiceQn extends Question {
     public MultipleChoiceQn (String description, String option1, String option2,
                              String option3, String option4, int answer,
                              String module, QnDifficulty qnDifficulty) {
-        super(description, QnType.MULTIPLECHOICE, module, qnDifficulty);
-        this.option1 = option1;
-        this.option2 = option2;
-        this.option3 = option3;
-        this.option4 = option4;
+        this(description, option1, option2, option3, option4, answer, module, qnDifficulty, new QuestionArena());
+    }
+
+    /**
+     * Creates a new question of type MULTIPLECHOICE whose text is stored in a given arena
+     * @param option1 1st answer choice
+     * @param option2 2nd answer choice
+     * @param option3 3rd answer choice
+     * @param option4 4th answer choice
+     * @param answer the correct answer index
+     * @param arena the arena the text of the question is stored in
+     */
+    public MultipleChoiceQn (String description, String option1, String option2,
+                             String option3, String option4, int answer,
+                             String module, QnDifficulty qnDifficulty, QuestionArena arena) {
+        super(description, QnType.MULTIPLECHOICE, module, qnDifficulty, arena);
+        this.option1 = storeText(option1);
+        this.option2 = storeText(option2);
+        this.option3 = storeText(option3);
+        this.option4 = storeText(option4);
         this.answer = answer;
     }
 
+    @Override
+    protected void moveTexts(QuestionArena oldArena) {
+        super.moveTexts(oldArena);
+        option1 = storeText(oldArena.loadText(option1));
+        option2 = storeText(oldArena.loadText(option2));
+        option3 = storeText(oldArena.loadText(option3));
+        option4 = storeText(oldArena.loadText(option4));
+    }
+
     /**
      * Get the Question's answer index in String format
      * @return Integer from 1 to 4 inclusive
@@ -64,10 +88,10 @@ public class MultipleChoiceQn extends Question {
     @Override
     public String getOption(int optionNumber) {
         switch(optionNumber) {
-        case 1: return option1;
-        case 2: return option2;
-        case 3: return option3;
-        case 4: return option4;
+        case 1: return loadText(option1);
+        case 2: return loadText(option2);
+        case 3: return loadText(option3);
+        case 4: return loadText(option4);
         default: return null;
         }
     }
@@ -78,20 +102,23 @@ public class MultipleChoiceQn extends Question {
             super.editQuestion(newValue, "");
             break;
         case "option1":
-            this.option1 = newValue;
+            this.option1 = storeText(newValue);
             break;
         case "option2":
-            this.option2 = newValue;
+            this.option2 = storeText(newValue);
             break;
         case "option3":
-            this.option3 = newValue;
+            this.option3 = storeText(newValue);
             break;
         case "option4":
-            this.option4 = newValue;
+            this.option4 = storeText(newValue);
             break;
         case "answer":
             this.answer = Integer.parseInt(newValue);
             break;
+        case "module":
+            super.editModule(newValue);
+            break;
         default:
             break;
         }
@@ -99,8 +126,8 @@ public class MultipleChoiceQn extends Question {
 
     @Override
     public String getQuestionDescription() {
-        return super.getQuestionDescription().strip() + " / " + this.option1.strip() + " / " + this.option2.strip() +
-                " / " + this.option3.strip() + " / " + this.option4.strip() + " / " + this.answer + " | " +
+        return super.getQuestionDescription().strip() + " / " + getOption(1).strip() + " / " + getOption(2).strip() +
+                " / " + getOption(3).strip() + " / " + getOption(4).strip() + " / " + this.answer + " | " +
                 super.getModule() + " | " + super.getDifficulty().toString();
     }
 
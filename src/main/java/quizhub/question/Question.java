@@ -1,30 +1,38 @@
 package quizhub.question;
 /**
  * Represents all questions in the question list in general.
+ * To keep large question banks small in memory, the text of a question is kept in the {@link QuestionArena}
+ * of its question list as UTF-8 bytes and only turned into Strings when read, its module is kept as an ID
+ * in the same arena, and its type, difficulty and done status are packed into one byte.
+ * A question created on its own gets an arena of its own, and is moved into the arena of the question list
+ * when it is added to it.
  */
-public class Question {
+public class Question implements Cloneable {
     public static final String QN_UNCHANGED_MSG = "    No changes made to question";
     public static final String ANSWER_BLANK_MSG = "    The question cannot be left blank, you may use \\exitquiz" +
             " to end the ongoing quiz.";
     public static final String VALID_ANSWER_KEYWORD = "valid";
+    public static final int UNASSIGNED_ID = -1;
     public enum QnType {SHORTANSWER, MULTIPLECHOICE, DEFAULT};
     public enum QnDifficulty {EASY, HARD, NORMAL, INVALID};
-    private QnType qnType;
-    private QnDifficulty qnDifficulty;
-    private String description;
-    private boolean done;
-    private String module;
+    private static final QnType[] QN_TYPES = QnType.values();
+    private static final QnDifficulty[] QN_DIFFICULTIES = QnDifficulty.values();
+    private static final int TYPE_MASK = 0b11;
+    private static final int DIFFICULTY_SHIFT = 2;
+    private static final int DIFFICULTY_MASK = 0b11 << DIFFICULTY_SHIFT;
+    private static final int DONE_FLAG = 1 << 4;
+    private QuestionArena arena; //arena holding the text and module of the question
+    private byte flags; //type in bits 0-1, difficulty in bits 2-3 and done status in bit 4
+    private long description; //handle of the description in the text arena
+    private int moduleId; //ID of the module in the module dictionary
+    private int questionId = UNASSIGNED_ID;
 
     /**
      * Creates a new question with a blank description,
      * not done status, default question type and normal difficulty..
      */
     public Question(){
-        description = "";
-        done = false;
-        qnType = QnType.DEFAULT;
-        module = "";
-        qnDifficulty = QnDifficulty.NORMAL;
+        this("", QnType.DEFAULT, "", QnDifficulty.NORMAL);
     }
     /**
      * Creates a new question with a given description,
@@ -33,11 +41,7 @@ public class Question {
      * @param questionBody Description given to the question.
      */
     public Question(String questionBody){
-        this.description = questionBody;
-        done = false;
-        qnType = QnType.DEFAULT;
-        module = "";
-        qnDifficulty = QnDifficulty.NORMAL;
+        this(questionBody, QnType.DEFAULT, "", QnDifficulty.NORMAL);
     }
     /**
      * Creates a new question with a given description,
@@ -47,11 +51,7 @@ public class Question {
      * @param qnType Type given to the question.
      */
     public Question(String questionBody, QnType qnType){
-        this.description = questionBody;
-        done = false;
-        this.qnType = qnType;
-        module = "";
-        qnDifficulty = QnDifficulty.NORMAL;
+        this(questionBody, qnType, "", QnDifficulty.NORMAL);
     }
 
     /**
@@ -63,11 +63,7 @@ public class Question {
      * @param module Module given to the question.
      */
     public Question(String questionBody, QnType qnType, String module){
-        this.description = questionBody;
-        done = false;
-        this.qnType = qnType;
-        this.module = module;
-        qnDifficulty = QnDifficulty.NORMAL;
+        this(questionBody, qnType, module, QnDifficulty.NORMAL);
     }
 
     /**
@@ -81,37 +77,122 @@ public class Question {
      * @param qnDifficulty Difficulty level assigned to the question.
      */
     public Question(String questionBody, QnType qnType, String module, QnDifficulty qnDifficulty){
-        this.description = questionBody;
-        done = false;
-        this.qnType = qnType;
-        this.module = module;
-        this.qnDifficulty = qnDifficulty;
+        this(questionBody, qnType, module, qnDifficulty, new QuestionArena());
+    }
+
+    /**
+     * Creates a new question with a given description,
+     * not done status. given question type, given module,
+     * and given difficulty, whose text is stored in a given arena.
+     *
+     * @param questionBody Description given to the question.
+     * @param qnType Type given to the question.
+     * @param module Module given to the question.
+     * @param qnDifficulty Difficulty level assigned to the question.
+     * @param arena Arena the text of the question is stored in, such as that of the question list it is added to.
+     */
+    public Question(String questionBody, QnType qnType, String module, QnDifficulty qnDifficulty,
+                    QuestionArena arena){
+        this.arena = arena;
+        this.description = storeText(questionBody);
+        this.flags = (byte) (qnType.ordinal() | qnDifficulty.ordinal() << DIFFICULTY_SHIFT);
+        this.moduleId = arena.getModuleId(module);
+    }
+
+    /**
+     * Stores a text of a question, such as its answer, in the arena of the question.
+     *
+     * @param text The text to be stored.
+     * @return the handle used to read the text back
+     */
+    protected long storeText(String text){
+        return arena.storeText(text);
+    }
+
+    /**
+     * Reads a text of a question back from the arena of the question as a new String.
+     *
+     * @param handle The handle returned when the text was stored.
+     */
+    protected String loadText(long handle){
+        return arena.loadText(handle);
+    }
+
+    /**
+     * Moves the text and module of the question into another arena, so that the question no longer uses its old one.
+     * Used when a question is added to a question list, and to move the questions of a question list
+     * into a compacted arena.
+     *
+     * @param newArena The arena the question is moved to.
+     */
+    public void moveTo(QuestionArena newArena){
+        if (newArena == arena) {
+            return;
+        }
+        QuestionArena oldArena = arena;
+        arena = newArena;
+        moveTexts(oldArena);
+    }
+
+    /**
+     * Stores every text of the question again in its current arena, reading them from its old arena.
+     * Subclasses with texts of their own move them too.
+     *
+     * @param oldArena The arena the texts of the question were stored in.
+     */
+    protected void moveTexts(QuestionArena oldArena){
+        description = storeText(oldArena.loadText(description));
+        moduleId = arena.getModuleId(oldArena.getModule(moduleId));
+    }
+
+    /**
+     * Returns a copy of the question with the same details and question ID.
+     * Used to change a question in the question list without changing the question
+     * seen by anyone who read it before, such as an ongoing quiz.
+     */
+    public Question copy(){
+        try {
+            return (Question) super.clone();
+        } catch (CloneNotSupportedException unexpectedError) {
+            throw new AssertionError("Questions can always be copied", unexpectedError);
+        }
+    }
+
+    /**
+     * Returns a copy of the question with the same details and question ID, whose text is stored in another arena.
+     *
+     * @param newArena The arena the text of the copy is stored in.
+     */
+    public Question copyTo(QuestionArena newArena){
+        Question copy = copy();
+        copy.moveTo(newArena);
+        return copy;
     }
 
     /**
      * Mark a question as done.
      */
     public void markAsDone(){
-        done = true;
+        flags |= DONE_FLAG;
     }
 
     /**
      * Checks if a question has been done.
      */
     public boolean questionIsDone(){
-        return done;
+        return (flags & DONE_FLAG) != 0;
     }
     /**
      * Returns question description.
      */
     public String getQuestionDescription(){
-        return description;
+        return loadText(description);
     }
     /**
      * Returns question body.
      */
     public String getQuestionBody(){
-        return description;
+        return loadText(description);
     }
     /**
      * Returns question answer.
@@ -123,14 +204,69 @@ public class Question {
      * Returns question type.
      */
     public QnType getQuestionType(){
-        return qnType;
+        return QN_TYPES[flags & TYPE_MASK];
     }
 
     /**
      * Returns module.
      */
     public String getModule(){
-        return module;
+        return arena.getModule(moduleId);
+    }
+
+    /**
+     * Moves the question to another module.
+     *
+     * @param newModule New module of the question.
+     */
+    public void editModule(String newModule){
+        this.moduleId = arena.getModuleId(newModule);
+    }
+
+    /**
+     * Returns the current value of a field of the question that can be edited.
+     * Used to keep the old value of an edited field so that the edit can be undone.
+     *
+     * @param editField The field of the question, as given to the edit command.
+     * @return the value of the field, or null if the question has no such field
+     */
+    public String getFieldValue(String editField){
+        switch (editField) {
+        case "description":
+            return getQuestionBody();
+        case "answer":
+            return getQuestionAnswer();
+        case "module":
+            return getModule();
+        case "option1":
+            return getOption(1);
+        case "option2":
+            return getOption(2);
+        case "option3":
+            return getOption(3);
+        case "option4":
+            return getOption(4);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the ID assigned to the question by the question list it belongs to.
+     * The ID stays the same when questions are shuffled or deleted.
+     */
+    public int getQuestionId(){
+        return questionId;
+    }
+
+    /**
+     * Assigns an ID to the question.
+     * Used by the question list when the question is added to it.
+     *
+     * @param questionId ID unique among the questions in the question list.
+     */
+    public void setQuestionId(int questionId){
+        this.questionId = questionId;
     }
 
     /**
@@ -139,20 +275,20 @@ public class Question {
      * @param newAnswer New answer of the question.
      */
     public void editQuestion(String newDescription, String newAnswer){
-        this.description = newDescription;
+        this.description = storeText(newDescription);
     }
     /**
      * Returns question details in a string.
      * @param qnDifficulty New difficulty level of the question.
      */
     public void markDifficulty (QnDifficulty qnDifficulty) {
-        this.qnDifficulty = qnDifficulty;
+        flags = (byte) ((flags & ~DIFFICULTY_MASK) | qnDifficulty.ordinal() << DIFFICULTY_SHIFT);
     }
     /**
      * Returns question difficulty.
      */
     public QnDifficulty getDifficulty(){
-        return qnDifficulty;
+        return QN_DIFFICULTIES[(flags & DIFFICULTY_MASK) >> DIFFICULTY_SHIFT];
     }
     public String getOption(int i) {
         return "";
@@ -0,0 +1,43 @@
+package quizhub.question;
+
+/**
+ * Represents the storage of the text and modules of the questions of one question list,
+ * a {@link TextArena} for their text together with a {@link ModuleDictionary} for their modules.
+ * Each question keeps a reference to the arena holding its text, so an arena is freed once no question uses it,
+ * such as when the question list replaces it with a compacted one and no old copy of its questions is still held.
+ */
+public class QuestionArena {
+    private final TextArena textArena;
+    private final ModuleDictionary moduleDictionary;
+
+    /**
+     * Creates a new empty question arena.
+     */
+    public QuestionArena() {
+        textArena = new TextArena();
+        moduleDictionary = new ModuleDictionary();
+    }
+
+    long storeText(String text) {
+        return textArena.store(text);
+    }
+
+    String loadText(long handle) {
+        return textArena.load(handle);
+    }
+
+    int getModuleId(String module) {
+        return moduleDictionary.getId(module);
+    }
+
+    String getModule(int moduleId) {
+        return moduleDictionary.getModule(moduleId);
+    }
+
+    /**
+     * Returns the number of bytes of text stored in the arena so far, including text no question uses any more.
+     */
+    public long getStoredBytes() {
+        return textArena.getStoredBytes();
+    }
+}
@@ -4,7 +4,7 @@ package quizhub.question;
  */
 public class ShortAnsQn extends Question {
     public static final String IDENTIFIER = "S";
-    private String answer;
+    private long answer; //handle of the answer in the text arena
     /**
      * Creates a new question of type SHORTANSWER
      *
@@ -14,7 +14,7 @@ public class ShortAnsQn extends Question {
      */
     public ShortAnsQn(String description, String answer, String module){
         super(description, QnType.SHORTANSWER, module);
-        this.answer = answer;
+        this.answer = storeText(answer);
     }
     /**
      * Creates a new question of type SHORTANSWER
@@ -25,8 +25,27 @@ public class ShortAnsQn extends Question {
      * @param qnDifficulty Question difficulty.
      */
     public ShortAnsQn(String description, String answer, String module, QnDifficulty qnDifficulty){
-        super(description, QnType.SHORTANSWER, module, qnDifficulty);
-        this.answer = answer;
+        this(description, answer, module, qnDifficulty, new QuestionArena());
+    }
+    /**
+     * Creates a new question of type SHORTANSWER whose text is stored in a given arena.
+     *
+     * @param description Question description.
+     * @param answer Question answer.
+     * @param module Question module.
+     * @param qnDifficulty Question difficulty.
+     * @param arena Arena the text of the question is stored in.
+     */
+    public ShortAnsQn(String description, String answer, String module, QnDifficulty qnDifficulty,
+                      QuestionArena arena){
+        super(description, QnType.SHORTANSWER, module, qnDifficulty, arena);
+        this.answer = storeText(answer);
+    }
+
+    @Override
+    protected void moveTexts(QuestionArena oldArena) {
+        super.moveTexts(oldArena);
+        answer = storeText(oldArena.loadText(answer));
     }
 
     /**
@@ -35,7 +54,7 @@ public class ShortAnsQn extends Question {
      */
     @Override
     public String getQuestionAnswer() {
-        return this.answer;
+        return loadText(this.answer);
     }
 
     @Override
@@ -50,7 +69,10 @@ public class ShortAnsQn extends Question {
             super.editQuestion(newValue, "");
             break;
         case "answer":
-            this.answer = newValue;
+            this.answer = storeText(newValue);
+            break;
+        case "module":
+            super.editModule(newValue);
             break;
         default:
             break;
@@ -62,7 +84,7 @@ public class ShortAnsQn extends Question {
      */
     @Override
     public String getQuestionDescription() {
-        return super.getQuestionDescription().strip() + " / " + this.answer.strip() + " | " + super.getModule()
+        return super.getQuestionDescription().strip() + " / " + getQuestionAnswer().strip() + " | " + super.getModule()
                 + " | " + super.getDifficulty().toString();
     }
 
@@ -101,6 +123,6 @@ public class ShortAnsQn extends Question {
     @Override
     public boolean checkAnswerCorrectness(String validatedAnswer) {
         validatedAnswer = validatedAnswer.replace("/", "\\slash");
-        return validatedAnswer.equalsIgnoreCase(this.answer);
+        return validatedAnswer.equalsIgnoreCase(getQuestionAnswer());
     }
 }
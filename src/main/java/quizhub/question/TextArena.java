@@ -0,0 +1,110 @@
+package quizhub.question;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Represents an append-only store of the text of questions, kept as UTF-8 bytes in large shared chunks
+ * instead of one String object per field of every question.
+ * Each stored text is referred to by a handle packing its chunk, offset and length into a long,
+ * and is only turned back into a String when it is read.
+ * Text is never removed, so text replaced by an edit stays behind, which also keeps old copies
+ * of questions, such as those held for undo, readable. The question list reclaims it by moving its questions
+ * into a new arena once most of the stored text is no longer used.
+ * A handle must reach other threads through a lock, as questions do through the question list.
+ */
+class TextArena {
+    static final long NULL_HANDLE = -1L;
+    private static final int OFFSET_BITS = 20;
+    private static final int LENGTH_BITS = 20;
+    private static final int MAX_CHUNK_SIZE = 1 << OFFSET_BITS;
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+    private static final long FIELD_MASK = (1L << LENGTH_BITS) - 1;
+    private static final int WHOLE_CHUNK = (int) FIELD_MASK; //length of a text stored alone in a chunk of its size
+    private volatile byte[][] chunks; //chunks[0..numChunks) hold text, the last one being filled
+    private int numChunks;
+    private int lastChunkUsed; //number of bytes of the last chunk holding text
+    private long storedBytes; //number of bytes of all text stored so far
+
+    /**
+     * Creates a new empty text arena.
+     */
+    TextArena() {
+        chunks = new byte[16][];
+        numChunks = 0;
+        lastChunkUsed = 0;
+        storedBytes = 0;
+    }
+
+    /**
+     * Stores a text at the end of the arena.
+     *
+     * @param text The text to be stored, which may be null.
+     * @return the handle of the stored text
+     */
+    synchronized long store(String text) {
+        if (text == null) {
+            return NULL_HANDLE;
+        }
+        if (text.isEmpty()) {
+            return 0L;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        storedBytes += bytes.length;
+        if (bytes.length >= WHOLE_CHUNK) {
+            addChunk(bytes);
+            lastChunkUsed = bytes.length;
+            return toHandle(numChunks - 1, 0, WHOLE_CHUNK);
+        }
+        if (numChunks == 0 || lastChunkUsed + bytes.length > chunks[numChunks - 1].length) {
+            int previousSize = numChunks == 0 ? 0 : chunks[numChunks - 1].length;
+            int chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, previousSize * 2));
+            chunkSize = Math.max(chunkSize, bytes.length);
+            addChunk(new byte[chunkSize]);
+            lastChunkUsed = 0;
+        }
+        System.arraycopy(bytes, 0, chunks[numChunks - 1], lastChunkUsed, bytes.length);
+        long handle = toHandle(numChunks - 1, lastChunkUsed, bytes.length);
+        lastChunkUsed += bytes.length;
+        return handle;
+    }
+
+    /**
+     * Returns the number of bytes of all text stored so far.
+     */
+    synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    private void addChunk(byte[] chunk) {
+        byte[][] grownChunks = numChunks == chunks.length ? Arrays.copyOf(chunks, numChunks * 2) : chunks;
+        grownChunks[numChunks] = chunk;
+        numChunks++;
+        chunks = grownChunks;
+    }
+
+    private static long toHandle(int chunkIndex, int offset, int length) {
+        return ((long) chunkIndex << (OFFSET_BITS + LENGTH_BITS)) | ((long) offset << LENGTH_BITS) | length;
+    }
+
+    /**
+     * Returns a stored text as a new String.
+     *
+     * @param handle The handle returned when the text was stored.
+     */
+    String load(long handle) {
+        if (handle == NULL_HANDLE) {
+            return null;
+        }
+        int length = (int) (handle & FIELD_MASK);
+        if (length == 0) {
+            return "";
+        }
+        byte[] chunk = chunks[(int) (handle >>> (OFFSET_BITS + LENGTH_BITS))];
+        if (length == WHOLE_CHUNK) {
+            return new String(chunk, StandardCharsets.UTF_8);
+        }
+        int offset = (int) ((handle >>> LENGTH_BITS) & FIELD_MASK);
+        return new String(chunk, offset, length, StandardCharsets.UTF_8);
+    }
+}
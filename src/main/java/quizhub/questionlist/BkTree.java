@@ -0,0 +1,129 @@
+package quizhub.questionlist;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a BK-tree of words, used to find the words within an edit distance of a keyword
+ * without measuring the distance to every word.
+ * Each child of a word is stored under its Levenshtein distance to that word. By the triangle inequality,
+ * a word within distance k of the keyword can only be under a child whose distance is within k of
+ * the distance between the keyword and the parent, so every other child is skipped.
+ */
+public class BkTree {
+    private Node root;
+    private int size;
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children;
+
+        private Node(String word) {
+            this.word = word;
+            this.children = new HashMap<>();
+        }
+    }
+
+    /**
+     * Creates a new empty BK-tree.
+     */
+    public BkTree() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Adds a word to the tree if it is not already in it.
+     *
+     * @param word The word to be added.
+     */
+    public void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = getEditDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds every word in the tree within an edit distance of a keyword.
+     *
+     * @param keyword The keyword to search for.
+     * @param maxDistance The largest Levenshtein distance of a matching word from the keyword.
+     * @return the matching words in no particular order
+     */
+    public List<String> search(String keyword, int maxDistance) {
+        List<String> matchedWords = new ArrayList<>();
+        if (root == null) {
+            return matchedWords;
+        }
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = getEditDistance(keyword, node.word);
+            if (distance <= maxDistance) {
+                matchedWords.add(node.word);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    nodesToVisit.push(child.getValue());
+                }
+            }
+        }
+        return matchedWords;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words, which is the least number of
+     * single character insertions, deletions and substitutions turning one word into the other.
+     *
+     * @param first The first word.
+     * @param second The second word.
+     * @return the edit distance between the words
+     */
+    public static int getEditDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] swappedRow = previousRow;
+            previousRow = currentRow;
+            currentRow = swappedRow;
+        }
+        return previousRow[second.length()];
+    }
+}
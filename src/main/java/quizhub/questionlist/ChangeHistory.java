@@ -0,0 +1,130 @@
+package quizhub.questionlist;
+
+import quizhub.storage.Storage;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represents a bounded log of the changes made to the question list, used to undo and redo them.
+ * Each change is recorded by the command that made it, together with what is needed to reverse it,
+ * such as the deleted question or the old value of an edited field, so recording a change never copies the list.
+ * Once the log is full, the oldest change is dropped and can no longer be undone.
+ */
+public class ChangeHistory {
+    public static final int DEFAULT_CAPACITY = 100;
+    private final int capacity;
+    private final Deque<Change> undoableChanges;
+    private final Deque<Change> redoableChanges;
+
+    /**
+     * Represents a change to the question list that can be reversed and made again.
+     */
+    public interface Change {
+        /**
+         * Reverses the change, returning the question list to its state just before the change.
+         *
+         * @param questions The question list in its state just after the change.
+         */
+        void undo(QuestionList questions);
+
+        /**
+         * Makes the change again, returning the question list to its state just after the change.
+         *
+         * @param questions The question list in its state just before the change.
+         */
+        void redo(QuestionList questions);
+
+        /**
+         * Saves the question list just after the change was undone, such as by journaling the reverse of the change.
+         *
+         * @param questions The question list in its state just before the change.
+         * @param dataStorage Hard disk storage for storing question data.
+         */
+        void saveUndo(QuestionList questions, Storage dataStorage);
+
+        /**
+         * Saves the question list just after the change was made again, such as by journaling the change.
+         *
+         * @param questions The question list in its state just after the change.
+         * @param dataStorage Hard disk storage for storing question data.
+         */
+        void saveRedo(QuestionList questions, Storage dataStorage);
+
+        /**
+         * Returns a short description of the change shown to the user, such as the command word.
+         */
+        String getDescription();
+    }
+
+    /**
+     * Creates a new empty change history.
+     *
+     * @param capacity The largest number of changes that can be undone.
+     */
+    public ChangeHistory(int capacity) {
+        assert capacity > 0 : "Change history must hold at least one change";
+        this.capacity = capacity;
+        this.undoableChanges = new ArrayDeque<>();
+        this.redoableChanges = new ArrayDeque<>();
+    }
+
+    /**
+     * Records a change that was just made, which can no longer be followed by redoing undone changes.
+     *
+     * @param change The change made to the question list.
+     */
+    public void record(Change change) {
+        if (undoableChanges.size() == capacity) {
+            undoableChanges.removeLast();
+        }
+        undoableChanges.push(change);
+        redoableChanges.clear();
+    }
+
+    /**
+     * Undoes the latest change that has not been undone.
+     *
+     * @param questions The question list the change was made to.
+     * @return the undone change, or null if there is no change to undo
+     */
+    public Change undo(QuestionList questions) {
+        Change change = undoableChanges.poll();
+        if (change == null) {
+            return null;
+        }
+        change.undo(questions);
+        redoableChanges.push(change);
+        return change;
+    }
+
+    /**
+     * Redoes the latest undone change.
+     *
+     * @param questions The question list the change was made to.
+     * @return the redone change, or null if there is no change to redo
+     */
+    public Change redo(QuestionList questions) {
+        Change change = redoableChanges.poll();
+        if (change == null) {
+            return null;
+        }
+        change.redo(questions);
+        undoableChanges.push(change);
+        return change;
+    }
+
+    /**
+     * Returns the number of changes that can be undone.
+     */
+    public int getNumUndoableChanges() {
+        return undoableChanges.size();
+    }
+
+    /**
+     * Returns the number of changes that can be redone.
+     */
+    public int getNumRedoableChanges() {
+        return redoableChanges.size();
+    }
+}
@@ -0,0 +1,103 @@
+package quizhub.questionlist;
+
+import java.util.Arrays;
+
+/**
+ * Represents a Fenwick tree (binary indexed tree) over a growable array of non-negative counts,
+ * answering prefix sums and updating single counts in logarithmic time.
+ * Each node i (1-based) holds the sum of the counts in (i - lowbit(i), i], which does not depend on
+ * the number of counts, so new counts can be appended without rebuilding the tree.
+ */
+public class FenwickTree {
+    private static final int INITIAL_CAPACITY = 16;
+    private int[] tree; //tree[0] is unused
+    private int size;
+
+    /**
+     * Creates a new Fenwick tree with no counts.
+     */
+    public FenwickTree() {
+        tree = new int[INITIAL_CAPACITY + 1];
+        size = 0;
+    }
+
+    /**
+     * Returns the number of counts in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replaces all counts in the tree with the given number of counts of the same value, in linear time.
+     *
+     * @param newSize The number of counts.
+     * @param value The value of every count.
+     */
+    public void reset(int newSize, int value) {
+        tree = new int[Math.max(newSize, INITIAL_CAPACITY) + 1];
+        size = newSize;
+        for (int i = 1; i <= size; i++) {
+            tree[i] = value * (i & -i);
+        }
+    }
+
+    /**
+     * Appends a count to the end of the tree.
+     *
+     * @param value The count to be appended.
+     */
+    public void append(int value) {
+        if (size + 1 == tree.length) {
+            tree = Arrays.copyOf(tree, tree.length * 2);
+        }
+        size++;
+        tree[size] = value + prefixSum(size - 1) - prefixSum(size - (size & -size));
+    }
+
+    /**
+     * Adds to one count in the tree.
+     *
+     * @param index The 0-based index of the count.
+     * @param delta The amount to add, which must not make the count negative.
+     */
+    public void add(int index, int delta) {
+        assert index >= 0 && index < size : "Index out of range of Fenwick tree";
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of the first counts in the tree.
+     *
+     * @param count The number of counts from the start to sum.
+     */
+    public int prefixSum(int count) {
+        int sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Finds the first count at which the running sum of counts reaches a target,
+     * by descending the tree one power of two at a time.
+     *
+     * @param target The running sum to reach, at least 1.
+     * @return the 0-based index of the count, or size() if the sum of all counts is below the target
+     */
+    public int findIndexOfSum(int target) {
+        int index = 0;
+        int remaining = target;
+        for (int step = Integer.highestOneBit(Math.max(size, 1)); step > 0; step >>= 1) {
+            int nextIndex = index + step;
+            if (nextIndex <= size && tree[nextIndex] < remaining) {
+                index = nextIndex;
+                remaining -= tree[nextIndex];
+            }
+        }
+        return index;
+    }
+}
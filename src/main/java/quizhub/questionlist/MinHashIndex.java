@@ -0,0 +1,296 @@
+package quizhub.questionlist;
+
+import quizhub.question.Question;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Represents an index of MinHash signatures of question descriptions, used to find near-duplicate questions.
+ * The signature of a description is made of the smallest hash of its three-character sequences (shingles)
+ * under each of a number of hash functions, and the fraction of positions where two signatures agree
+ * estimates how many shingles the descriptions share (their Jaccard similarity).
+ * Signatures are split into bands and questions are bucketed by each band (locality-sensitive hashing),
+ * so only questions sharing a bucket with a question are compared with it.
+ */
+public class MinHashIndex {
+    public static final double SIMILARITY_THRESHOLD = 0.7;
+    private static final int NUM_BANDS = 8;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_LENGTH = NUM_BANDS * ROWS_PER_BAND;
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int INITIAL_ID_CAPACITY = 16;
+    private static final long HASH_SEED = 2113;
+    private final int[] hashMultipliers;
+    private final int[] hashOffsets;
+    private final List<Map<Integer, PostingList>> bandBuckets;
+    private int[][] signatures; //signature of each question by question ID, or null if not indexed
+
+    /**
+     * Creates a new empty MinHash index.
+     */
+    public MinHashIndex() {
+        Random random = new Random(HASH_SEED);
+        hashMultipliers = new int[SIGNATURE_LENGTH];
+        hashOffsets = new int[SIGNATURE_LENGTH];
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            hashMultipliers[i] = random.nextInt() | 1;
+            hashOffsets[i] = random.nextInt();
+        }
+        bandBuckets = new ArrayList<>();
+        for (int band = 0; band < NUM_BANDS; band++) {
+            bandBuckets.add(new HashMap<>());
+        }
+        signatures = new int[INITIAL_ID_CAPACITY][];
+    }
+
+    /**
+     * Returns the distinct shingles of a piece of text, ignoring case and repeated whitespace.
+     * Text shorter than a shingle is its own only shingle.
+     */
+    private static Set<String> extractShingles(String text) {
+        String normalisedText = text.toLowerCase().strip().replaceAll("\\s+", " ");
+        Set<String> shingles = new HashSet<>();
+        if (normalisedText.length() < SHINGLE_LENGTH) {
+            shingles.add(normalisedText);
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_LENGTH <= normalisedText.length(); i++) {
+            shingles.add(normalisedText.substring(i, i + SHINGLE_LENGTH));
+        }
+        return shingles;
+    }
+
+    /**
+     * Computes the MinHash signature of a piece of text.
+     *
+     * @param text The text to be hashed.
+     * @return the smallest hash of the shingles of the text under each hash function
+     */
+    public int[] computeSignature(String text) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : extractShingles(text)) {
+            int shingleHash = shingle.hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = mixBits(shingleHash * hashMultipliers[i] + hashOffsets[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Spreads the bits of a hash so that hashes of similar shingles are unrelated (MurmurHash3 finaliser).
+     */
+    private static int mixBits(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int getBandKey(int[] signature, int band) {
+        int bandKey = 1;
+        for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+            bandKey = 31 * bandKey + signature[row];
+        }
+        return bandKey;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of the shingles of two descriptions from their signatures.
+     *
+     * @return the fraction of positions where the signatures agree
+     */
+    public static double estimateSimilarity(int[] firstSignature, int[] secondSignature) {
+        int agreements = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (firstSignature[i] == secondSignature[i]) {
+                agreements++;
+            }
+        }
+        return (double) agreements / SIGNATURE_LENGTH;
+    }
+
+    /**
+     * Adds the signature of the description of a question to the index.
+     *
+     * @param question The question that was added to the question list.
+     */
+    public void add(Question question) {
+        int questionId = question.getQuestionId();
+        int[] signature = computeSignature(question.getQuestionBody());
+        if (questionId >= signatures.length) {
+            signatures = Arrays.copyOf(signatures, Math.max(signatures.length * 2, questionId + 1));
+        }
+        signatures[questionId] = signature;
+        for (int band = 0; band < NUM_BANDS; band++) {
+            bandBuckets.get(band).computeIfAbsent(getBandKey(signature, band), key -> new PostingList())
+                    .add(questionId);
+        }
+    }
+
+    /**
+     * Removes the signature of the description of a question from the index.
+     *
+     * @param question The question that is removed from the question list.
+     */
+    public void remove(Question question) {
+        int questionId = question.getQuestionId();
+        if (questionId >= signatures.length || signatures[questionId] == null) {
+            return;
+        }
+        int[] signature = signatures[questionId];
+        for (int band = 0; band < NUM_BANDS; band++) {
+            Map<Integer, PostingList> buckets = bandBuckets.get(band);
+            int bandKey = getBandKey(signature, band);
+            PostingList bucket = buckets.get(bandKey);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.remove(questionId);
+            if (bucket.isEmpty()) {
+                buckets.remove(bandKey);
+            }
+        }
+        signatures[questionId] = null;
+    }
+
+    /**
+     * Finds the indexed questions whose description is estimated to be at least
+     * SIMILARITY_THRESHOLD similar to that of a question, other than the question itself.
+     *
+     * @param question The question to compare with, which may or may not be indexed.
+     * @return the IDs of the similar questions in ascending order
+     */
+    public int[] findSimilar(Question question) {
+        int[] signature = computeSignature(question.getQuestionBody());
+        BitSet candidateIds = new BitSet();
+        for (int band = 0; band < NUM_BANDS; band++) {
+            PostingList bucket = bandBuckets.get(band).get(getBandKey(signature, band));
+            if (bucket != null) {
+                bucket.setBits(candidateIds);
+            }
+        }
+        if (question.getQuestionId() != Question.UNASSIGNED_ID) {
+            candidateIds.clear(question.getQuestionId());
+        }
+        return candidateIds.stream()
+                .filter(questionId -> isSimilar(signature, signatures[questionId]))
+                .toArray();
+    }
+
+    private static boolean isSimilar(int[] firstSignature, int[] secondSignature) {
+        return estimateSimilarity(firstSignature, secondSignature) >= SIMILARITY_THRESHOLD;
+    }
+
+    /**
+     * Groups the indexed questions into clusters of near-duplicates, including questions that are only
+     * similar through a chain of similar questions.
+     * Within each bucket, the questions are kept in groups belonging to the same cluster, and every question
+     * is compared with the members of each other group until one of them is found similar, which merges
+     * the groups. A group already in the question's cluster through another bucket is joined without comparing.
+     * As near-duplicates mostly share one cluster, most questions are compared with only a few others.
+     *
+     * @return the IDs of the questions of each cluster with more than one question, in ascending order
+     */
+    public List<int[]> findClusters() {
+        int[] clusterParents = new int[signatures.length];
+        for (int i = 0; i < clusterParents.length; i++) {
+            clusterParents[i] = i;
+        }
+        for (Map<Integer, PostingList> buckets : bandBuckets) {
+            for (PostingList bucket : buckets.values()) {
+                clusterBucket(bucket, clusterParents);
+            }
+        }
+        Map<Integer, List<Integer>> clustersByRoot = new HashMap<>();
+        List<List<Integer>> clusters = new ArrayList<>();
+        for (int questionId = 0; questionId < signatures.length; questionId++) {
+            if (signatures[questionId] == null) {
+                continue;
+            }
+            int root = findRoot(clusterParents, questionId);
+            List<Integer> cluster = clustersByRoot.get(root);
+            if (cluster == null) {
+                cluster = new ArrayList<>();
+                clustersByRoot.put(root, cluster);
+                clusters.add(cluster);
+            }
+            cluster.add(questionId);
+        }
+        List<int[]> nearDuplicateClusters = new ArrayList<>();
+        for (List<Integer> cluster : clusters) {
+            if (cluster.size() > 1) {
+                nearDuplicateClusters.add(cluster.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        return nearDuplicateClusters;
+    }
+
+    /**
+     * Merges the clusters of the questions of one bucket that are similar, directly or through other
+     * questions of the bucket.
+     */
+    private void clusterBucket(PostingList bucket, int[] clusterParents) {
+        List<List<Integer>> groups = new ArrayList<>(); //questions of the bucket seen so far, by cluster
+        for (int questionId : bucket.toArray()) {
+            List<Integer> joinedGroup = null;
+            Iterator<List<Integer>> groupIterator = groups.iterator();
+            while (groupIterator.hasNext()) {
+                List<Integer> group = groupIterator.next();
+                int groupRoot = findRoot(clusterParents, group.get(0));
+                boolean isSameCluster = groupRoot == findRoot(clusterParents, questionId);
+                if (!isSameCluster && !containsSimilar(group, questionId)) {
+                    continue;
+                }
+                clusterParents[groupRoot] = findRoot(clusterParents, questionId);
+                if (joinedGroup == null) {
+                    group.add(questionId);
+                    joinedGroup = group;
+                } else {
+                    joinedGroup.addAll(group);
+                    groupIterator.remove();
+                }
+            }
+            if (joinedGroup == null) {
+                List<Integer> newGroup = new ArrayList<>();
+                newGroup.add(questionId);
+                groups.add(newGroup);
+            }
+        }
+    }
+
+    private boolean containsSimilar(List<Integer> questionIds, int questionId) {
+        for (int otherId : questionIds) {
+            if (isSimilar(signatures[otherId], signatures[questionId])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the question ID representing the cluster of a question, halving the path to it along the way.
+     */
+    private static int findRoot(int[] clusterParents, int questionId) {
+        while (clusterParents[questionId] != questionId) {
+            clusterParents[questionId] = clusterParents[clusterParents[questionId]];
+            questionId = clusterParents[questionId];
+        }
+        return questionId;
+    }
+}
@@ -0,0 +1,171 @@
+package quizhub.questionlist;
+
+import quizhub.question.Question;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Represents an index from the modules of the questions to the IDs of the questions belonging to them.
+ * Modules are case-insensitive, so they are indexed in lowercase.
+ * Searches only go through the distinct modules instead of every question,
+ * and searches by prefix only go through the modules with the prefix, found in a prefix trie.
+ */
+public class ModuleIndex {
+    private final Map<String, PostingList> questionsByModule;
+    private final ModuleTrie moduleTrie; //the same modules, by their characters
+
+    /**
+     * Creates a new empty module index.
+     */
+    public ModuleIndex() {
+        questionsByModule = new HashMap<>();
+        moduleTrie = new ModuleTrie();
+    }
+
+    /**
+     * Adds a question to the questions of its module.
+     *
+     * @param question The question that was added to the question list.
+     */
+    public void add(Question question) {
+        PostingList moduleQuestions = questionsByModule.computeIfAbsent(question.getModule().toLowerCase(),
+                key -> new PostingList());
+        moduleQuestions.add(question.getQuestionId());
+        moduleTrie.add(question.getModule(), moduleQuestions);
+    }
+
+    /**
+     * Removes a question from the questions of its module.
+     *
+     * @param question The question that is removed from the question list.
+     */
+    public void remove(Question question) {
+        String module = question.getModule().toLowerCase();
+        PostingList moduleQuestions = questionsByModule.get(module);
+        if (moduleQuestions == null) {
+            return;
+        }
+        moduleQuestions.remove(question.getQuestionId());
+        moduleTrie.remove(module);
+        if (moduleQuestions.isEmpty()) {
+            questionsByModule.remove(module);
+        }
+    }
+
+    /**
+     * Returns the questions belonging to a module, ignoring case.
+     *
+     * @param module The module to look up.
+     * @return the IDs of the questions of the module in ascending order
+     */
+    public int[] getQuestions(String module) {
+        PostingList moduleQuestions = questionsByModule.get(module.toLowerCase());
+        if (moduleQuestions == null) {
+            return new int[0];
+        }
+        return moduleQuestions.toArray();
+    }
+
+    /**
+     * Returns the number of questions belonging to a module, ignoring case.
+     *
+     * @param module The module to look up.
+     */
+    public int countQuestions(String module) {
+        PostingList moduleQuestions = questionsByModule.get(module.toLowerCase());
+        return moduleQuestions == null ? 0 : moduleQuestions.size();
+    }
+
+    /**
+     * Returns the questions belonging to every module that contains a keyword, ignoring case.
+     *
+     * @param keyword The keyword to search for.
+     * @return the IDs of the matching questions in no particular order
+     */
+    public int[] searchBySubstring(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        List<PostingList> matchedModules = new ArrayList<>();
+        for (Map.Entry<String, PostingList> module : questionsByModule.entrySet()) {
+            if (module.getKey().contains(lowerCaseKeyword)) {
+                matchedModules.add(module.getValue());
+            }
+        }
+        return concatenate(matchedModules);
+    }
+
+    /**
+     * Returns the questions belonging to every module that starts with a prefix, ignoring case.
+     *
+     * @param prefix The prefix of the modules.
+     * @return the IDs of the matching questions in no particular order
+     */
+    public int[] searchByPrefix(String prefix) {
+        return concatenate(moduleTrie.getQuestions(prefix));
+    }
+
+    /**
+     * Returns the number of questions belonging to every module that starts with a prefix, ignoring case.
+     *
+     * @param prefix The prefix of the modules.
+     */
+    public int countQuestionsByPrefix(String prefix) {
+        return moduleTrie.countQuestions(prefix);
+    }
+
+    /**
+     * Returns the number of questions of every module, in alphabetical order of the modules.
+     */
+    public Map<String, Integer> getModuleCounts() {
+        return moduleTrie.getModuleCounts();
+    }
+
+    /**
+     * Suggests modules sharing the longest possible prefix with a keyword, ignoring case.
+     *
+     * @param keyword The module or partial module typed.
+     * @param maxSuggestions The largest number of modules to suggest.
+     * @return the suggested modules in alphabetical order
+     */
+    public List<String> suggestModules(String keyword, int maxSuggestions) {
+        return moduleTrie.suggest(keyword, maxSuggestions);
+    }
+
+    /**
+     * Returns the questions belonging to every module whose lowercase name fully matches a pattern.
+     *
+     * @param modulePattern The compiled pattern to match modules against.
+     * @return the IDs of the matching questions in no particular order
+     */
+    public int[] searchByPattern(Pattern modulePattern) {
+        List<PostingList> matchedModules = new ArrayList<>();
+        for (Map.Entry<String, PostingList> module : questionsByModule.entrySet()) {
+            if (modulePattern.matcher(module.getKey()).matches()) {
+                matchedModules.add(module.getValue());
+            }
+        }
+        return concatenate(matchedModules);
+    }
+
+    /**
+     * Joins the question IDs of several modules into one array.
+     * Every question belongs to exactly one module, so no ID appears twice.
+     */
+    private static int[] concatenate(List<PostingList> modules) {
+        int numQuestions = 0;
+        for (PostingList module : modules) {
+            numQuestions += module.size();
+        }
+        int[] questionIds = new int[numQuestions];
+        int offset = 0;
+        for (PostingList module : modules) {
+            int[] moduleIds = module.toArray();
+            System.arraycopy(moduleIds, 0, questionIds, offset, moduleIds.length);
+            offset += moduleIds.length;
+        }
+        return questionIds;
+    }
+}
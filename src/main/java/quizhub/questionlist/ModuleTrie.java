@@ -0,0 +1,185 @@
+package quizhub.questionlist;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents a prefix trie of the modules of the questions, used to find the modules starting with a prefix
+ * without going through every module.
+ * Modules are case-insensitive, so they are stored in lowercase, one character per level.
+ * Every node keeps the number of questions of the modules below it, so the questions of all modules
+ * with a prefix can be counted by walking down the prefix alone.
+ */
+public class ModuleTrie {
+    private final Node root;
+
+    private static class Node {
+        private final Map<Character, Node> children;
+        private String module; //module name as first added, or null if no module ends at this node
+        private PostingList moduleQuestions; //IDs of the questions of the module ending at this node
+        private int numQuestions; //number of questions of all modules at or below this node
+
+        private Node() {
+            this.children = new TreeMap<>();
+            this.module = null;
+            this.moduleQuestions = null;
+            this.numQuestions = 0;
+        }
+    }
+
+    /**
+     * Creates a new empty module trie.
+     */
+    public ModuleTrie() {
+        root = new Node();
+    }
+
+    /**
+     * Records one more question of a module, adding the module to the trie if it is new.
+     *
+     * @param module The module of the question that was added.
+     * @param moduleQuestions The IDs of the questions of the module, shared with the module index.
+     */
+    public void add(String module, PostingList moduleQuestions) {
+        Node node = root;
+        node.numQuestions++;
+        for (char character : module.toLowerCase().toCharArray()) {
+            node = node.children.computeIfAbsent(character, key -> new Node());
+            node.numQuestions++;
+        }
+        if (node.module == null) {
+            node.module = module;
+            node.moduleQuestions = moduleQuestions;
+        }
+    }
+
+    /**
+     * Records one question less of a module, removing the module from the trie once it has no questions.
+     *
+     * @param module The module of the question that is removed.
+     */
+    public void remove(String module) {
+        String lowerCaseModule = module.toLowerCase();
+        if (findNode(lowerCaseModule) == null) {
+            return;
+        }
+        Node node = root;
+        node.numQuestions--;
+        for (char character : lowerCaseModule.toCharArray()) {
+            Node child = node.children.get(character);
+            child.numQuestions--;
+            if (child.numQuestions == 0) {
+                node.children.remove(character);
+                return;
+            }
+            node = child;
+        }
+        if (node.moduleQuestions.isEmpty()) {
+            node.module = null;
+            node.moduleQuestions = null;
+        }
+    }
+
+    private Node findNode(String lowerCasePrefix) {
+        Node node = root;
+        for (char character : lowerCasePrefix.toCharArray()) {
+            node = node.children.get(character);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the number of questions belonging to modules that start with a prefix, ignoring case.
+     *
+     * @param prefix The prefix of the modules.
+     */
+    public int countQuestions(String prefix) {
+        Node node = findNode(prefix.toLowerCase());
+        return node == null ? 0 : node.numQuestions;
+    }
+
+    /**
+     * Returns the question IDs of every module that starts with a prefix, ignoring case.
+     *
+     * @param prefix The prefix of the modules.
+     * @return the question IDs of each matching module, with modules in alphabetical order
+     */
+    public List<PostingList> getQuestions(String prefix) {
+        List<PostingList> matchedModules = new ArrayList<>();
+        for (Node node : collectModuleNodes(findNode(prefix.toLowerCase()), Integer.MAX_VALUE)) {
+            matchedModules.add(node.moduleQuestions);
+        }
+        return matchedModules;
+    }
+
+    /**
+     * Returns the number of questions of every module in the trie.
+     *
+     * @return the module names as first added and their numbers of questions, in alphabetical order
+     */
+    public Map<String, Integer> getModuleCounts() {
+        Map<String, Integer> moduleCounts = new LinkedHashMap<>();
+        for (Node node : collectModuleNodes(root, Integer.MAX_VALUE)) {
+            moduleCounts.put(node.module, node.moduleQuestions.size());
+        }
+        return moduleCounts;
+    }
+
+    /**
+     * Suggests modules that share the longest possible prefix with a keyword, ignoring case,
+     * such as modules completing a partly typed or mistyped module.
+     *
+     * @param keyword The module or partial module typed.
+     * @param maxSuggestions The largest number of modules to suggest.
+     * @return the suggested modules in alphabetical order, or no modules if none shares a first character
+     */
+    public List<String> suggest(String keyword, int maxSuggestions) {
+        Node node = root;
+        for (char character : keyword.toLowerCase().toCharArray()) {
+            Node child = node.children.get(character);
+            if (child == null) {
+                break;
+            }
+            node = child;
+        }
+        List<String> suggestedModules = new ArrayList<>();
+        if (node == root) {
+            return suggestedModules;
+        }
+        for (Node moduleNode : collectModuleNodes(node, maxSuggestions)) {
+            suggestedModules.add(moduleNode.module);
+        }
+        return suggestedModules;
+    }
+
+    /**
+     * Returns the nodes of the modules at or below a node in alphabetical order, up to a limit.
+     */
+    private static List<Node> collectModuleNodes(Node subtreeRoot, int maxModules) {
+        List<Node> moduleNodes = new ArrayList<>();
+        if (subtreeRoot == null) {
+            return moduleNodes;
+        }
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(subtreeRoot);
+        while (!nodesToVisit.isEmpty() && moduleNodes.size() < maxModules) {
+            Node node = nodesToVisit.pop();
+            if (node.module != null) {
+                moduleNodes.add(node);
+            }
+            List<Node> children = new ArrayList<>(node.children.values());
+            for (int i = children.size() - 1; i >= 0; i--) {
+                nodesToVisit.push(children.get(i));
+            }
+        }
+        return moduleNodes;
+    }
+}
@@ -0,0 +1,195 @@
+package quizhub.questionlist;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Represents an immutable list stored as a persistent vector, a trie of nodes holding 32 children each.
+ * Appending or replacing an element makes a new vector that copies only the nodes on the path to the element,
+ * at most one node per level, and shares every other node with the old vector.
+ * The old vector never changes, so it can be kept and read, such as by an ongoing quiz, at no extra cost.
+ * The last elements are kept in a separate tail node, so most appends copy the tail alone.
+ *
+ * @param <E> Type of the elements, which may be null.
+ */
+public class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int NODE_SIZE = 1 << BITS_PER_LEVEL;
+    private static final int NODE_MASK = NODE_SIZE - 1;
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS_PER_LEVEL, new Object[NODE_SIZE], new Object[0]);
+    private final int size;
+    private final int shift; //number of bits of an index used below the root
+    private final Object[] root; //inner nodes hold child nodes, leaves at the bottom level hold elements
+    private final Object[] tail; //last elements, not yet pushed into the trie
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Creates a vector of the elements of a collection in one pass, filling every node once
+     * instead of copying the path of each element appended.
+     *
+     * @param elements The elements of the vector, in order.
+     */
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        if (array.length == 0) {
+            return empty();
+        }
+        int tailOffset = getTailOffset(array.length);
+        Object[] tail = Arrays.copyOfRange(array, tailOffset, array.length);
+        Object[][] nodes = new Object[tailOffset / NODE_SIZE][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(array, i * NODE_SIZE, (i + 1) * NODE_SIZE);
+        }
+        int shift = BITS_PER_LEVEL;
+        while (nodes.length > NODE_SIZE) {
+            Object[][] parents = new Object[(nodes.length + NODE_MASK) / NODE_SIZE][];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = new Object[NODE_SIZE];
+                int numChildren = Math.min(NODE_SIZE, nodes.length - i * NODE_SIZE);
+                System.arraycopy(nodes, i * NODE_SIZE, parents[i], 0, numChildren);
+            }
+            nodes = parents;
+            shift += BITS_PER_LEVEL;
+        }
+        Object[] root = new Object[NODE_SIZE];
+        System.arraycopy(nodes, 0, root, 0, nodes.length);
+        return new PersistentVector<>(array.length, shift, root, tail);
+    }
+
+    /**
+     * Returns the number of elements stored in the trie rather than the tail,
+     * which is always a multiple of the node size.
+     */
+    private static int getTailOffset(int size) {
+        return size == 0 ? 0 : ((size - 1) >>> BITS_PER_LEVEL) << BITS_PER_LEVEL;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) getNode(index)[index & NODE_MASK];
+    }
+
+    /**
+     * Returns the leaf or tail node holding an element, walking down one level per 5 bits of its index.
+     */
+    private Object[] getNode(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No element at index " + index);
+        }
+        if (index >= getTailOffset(size)) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS_PER_LEVEL) {
+            node = (Object[]) node[(index >>> level) & NODE_MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a new vector with an element appended, sharing all full nodes with this vector.
+     *
+     * @param element The element to be appended.
+     */
+    public PersistentVector<E> plus(E element) {
+        if (size - getTailOffset(size) < NODE_SIZE) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS_PER_LEVEL) > (1 << shift)) {
+            // the trie is full, so it grows a level above the old root
+            newRoot = new Object[NODE_SIZE];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS_PER_LEVEL;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Copies the path down to the first empty leaf of the trie and puts the full tail there.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & NODE_MASK;
+        Object[] newParent = parent.clone();
+        if (level == BITS_PER_LEVEL) {
+            newParent[childIndex] = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[childIndex];
+            newParent[childIndex] = child == null
+                    ? newPath(level - BITS_PER_LEVEL, tailNode)
+                    : pushTail(level - BITS_PER_LEVEL, child, tailNode);
+        }
+        return newParent;
+    }
+
+    /**
+     * Returns a chain of new nodes from the given level down to a leaf.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[NODE_SIZE];
+        node[0] = newPath(level - BITS_PER_LEVEL, leaf);
+        return node;
+    }
+
+    /**
+     * Returns a new vector with one element replaced, sharing all nodes off the path to it with this vector.
+     *
+     * @param index The 0-based index of the element to be replaced.
+     * @param element The new element.
+     * @throws IndexOutOfBoundsException If there is no element at the index.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No element at index " + index);
+        }
+        if (index >= getTailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & NODE_MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, replaceInNode(shift, root, index, element), tail);
+    }
+
+    private static Object[] replaceInNode(int level, Object[] node, int index, Object element) {
+        Object[] newNode = node.clone();
+        if (level == 0) {
+            newNode[index & NODE_MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & NODE_MASK;
+            newNode[childIndex] = replaceInNode(level - BITS_PER_LEVEL, (Object[]) node[childIndex], index, element);
+        }
+        return newNode;
+    }
+}
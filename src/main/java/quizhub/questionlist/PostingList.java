@@ -0,0 +1,273 @@
+package quizhub.questionlist;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Represents the IDs of the questions indexed under one key of a question index, kept in ascending order.
+ * Question IDs are handed out in increasing order, so adding a new question is an append,
+ * while a deleted question put back with its old ID is inserted in place.
+ * A posting list may also keep the number of times its key occurs in each question (its term frequency),
+ * which is only stored when asked for to save memory in indexes that do not rank questions.
+ * Removed IDs are marked in place (stored as their bitwise complement, which is negative) instead of
+ * shifting the later IDs down, and are only compacted away once they make up half of the list,
+ * so removing an ID takes logarithmic time on average even from the front of a long list.
+ * Only adding and removing IDs change the stored IDs; reads skip the IDs marked as removed,
+ * so any number of threads may read a posting list at once while no thread changes it.
+ */
+public class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+    private int[] questionIds;
+    private int[] frequencies; //term frequency of each question ID, or null if not kept
+    private int size; //number of stored IDs, including removed ones
+    private int numRemoved; //number of stored IDs marked as removed
+
+    /**
+     * Represents an action taken on each question ID of a posting list.
+     */
+    public interface IdAction {
+        /**
+         * Takes the action on a question ID.
+         *
+         * @param questionId The question ID.
+         * @param frequency The term frequency of the question ID, or 1 if term frequencies are not kept.
+         */
+        void accept(int questionId, int frequency);
+    }
+
+    /**
+     * Creates a new empty posting list without term frequencies.
+     */
+    public PostingList() {
+        this(false);
+    }
+
+    /**
+     * Creates a new empty posting list.
+     *
+     * @param keepsFrequencies If true, the term frequency of each question ID is kept.
+     */
+    public PostingList(boolean keepsFrequencies) {
+        questionIds = new int[INITIAL_CAPACITY];
+        frequencies = keepsFrequencies ? new int[INITIAL_CAPACITY] : null;
+        size = 0;
+        numRemoved = 0;
+    }
+
+    /**
+     * Adds a question ID to the posting list if it is not already in it.
+     *
+     * @param questionId The ID to be added.
+     */
+    public void add(int questionId) {
+        add(questionId, 1);
+    }
+
+    /**
+     * Adds a question ID with its term frequency to the posting list,
+     * or updates its term frequency if it is already in it.
+     *
+     * @param questionId The ID to be added.
+     * @param frequency The number of times the key occurs in the question.
+     */
+    public void add(int questionId, int frequency) {
+        int insertionPoint = size;
+        if (size > 0 && decode(questionIds[size - 1]) >= questionId) {
+            int searchResult = findIndex(questionId);
+            if (searchResult >= 0) {
+                if (questionIds[searchResult] < 0) {
+                    questionIds[searchResult] = questionId;
+                    numRemoved--;
+                }
+                if (frequencies != null) {
+                    frequencies[searchResult] = frequency;
+                }
+                return;
+            }
+            insertionPoint = -searchResult - 1;
+        }
+        if (size == questionIds.length) {
+            questionIds = Arrays.copyOf(questionIds, size * 2);
+            if (frequencies != null) {
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+        }
+        System.arraycopy(questionIds, insertionPoint, questionIds, insertionPoint + 1, size - insertionPoint);
+        questionIds[insertionPoint] = questionId;
+        if (frequencies != null) {
+            System.arraycopy(frequencies, insertionPoint, frequencies, insertionPoint + 1, size - insertionPoint);
+            frequencies[insertionPoint] = frequency;
+        }
+        size++;
+    }
+
+    /**
+     * Removes a question ID from the posting list if it is in it.
+     *
+     * @param questionId The ID to be removed.
+     */
+    public void remove(int questionId) {
+        int index = findIndex(questionId);
+        if (index < 0 || questionIds[index] < 0) {
+            return;
+        }
+        questionIds[index] = ~questionId;
+        numRemoved++;
+        if (numRemoved * 2 >= size) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns a stored ID with its removed mark cleared.
+     */
+    private static int decode(int storedId) {
+        return storedId < 0 ? ~storedId : storedId;
+    }
+
+    /**
+     * Finds the position of a question ID among the stored IDs, whether or not it is marked as removed.
+     * Marking IDs as removed keeps the stored IDs in order once decoded, so they can still be binary searched.
+     *
+     * @param questionId The ID to look for.
+     * @return the position of the ID, or (-(insertion point) - 1) if it is not stored
+     */
+    private int findIndex(int questionId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = decode(questionIds[middle]);
+            if (middleId < questionId) {
+                low = middle + 1;
+            } else if (middleId > questionId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Drops the IDs marked as removed, moving the remaining IDs and their term frequencies up.
+     */
+    private void compact() {
+        if (numRemoved == 0) {
+            return;
+        }
+        int numKept = 0;
+        for (int i = 0; i < size; i++) {
+            if (questionIds[i] >= 0) {
+                questionIds[numKept] = questionIds[i];
+                if (frequencies != null) {
+                    frequencies[numKept] = frequencies[i];
+                }
+                numKept++;
+            }
+        }
+        size = numKept;
+        numRemoved = 0;
+    }
+
+    /**
+     * Checks if a question ID is in the posting list.
+     *
+     * @param questionId The ID to look for.
+     * @return true if the ID is in the posting list
+     */
+    public boolean contains(int questionId) {
+        int index = findIndex(questionId);
+        return index >= 0 && questionIds[index] >= 0;
+    }
+
+    /**
+     * Passes every question ID in the posting list with its term frequency to an action, in ascending order.
+     *
+     * @param action The action taken on each question ID.
+     */
+    public void forEach(IdAction action) {
+        for (int i = 0; i < size; i++) {
+            if (questionIds[i] >= 0) {
+                action.accept(questionIds[i], frequencies == null ? 1 : frequencies[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of question IDs in the posting list.
+     */
+    public int size() {
+        return size - numRemoved;
+    }
+
+    /**
+     * Checks if the posting list has no question IDs.
+     */
+    public boolean isEmpty() {
+        return size == numRemoved;
+    }
+
+    /**
+     * Sets the bit of every question ID in the posting list in a bitmap.
+     *
+     * @param bitmap Bitmap of question IDs to be added to.
+     */
+    public void setBits(BitSet bitmap) {
+        for (int i = 0; i < size; i++) {
+            if (questionIds[i] >= 0) {
+                bitmap.set(questionIds[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the question IDs in the posting list, in ascending order.
+     */
+    public int[] toArray() {
+        int[] listedIds = new int[size()];
+        int numListed = 0;
+        for (int i = 0; i < size; i++) {
+            if (questionIds[i] >= 0) {
+                listedIds[numListed++] = questionIds[i];
+            }
+        }
+        return listedIds;
+    }
+
+    /**
+     * Returns the question IDs that are in every one of the given posting lists.
+     * The shortest posting list is walked and each of its IDs is looked up in the others,
+     * so the cost depends on the length of the shortest posting list.
+     *
+     * @param postingLists The posting lists to be intersected, which is reordered by length.
+     * @return the common question IDs in ascending order
+     */
+    public static int[] intersect(List<PostingList> postingLists) {
+        if (postingLists.isEmpty()) {
+            return new int[0];
+        }
+        postingLists.sort(Comparator.comparingInt(PostingList::size));
+        PostingList shortestList = postingLists.get(0);
+        int[] commonIds = new int[shortestList.size()];
+        int numCommonIds = 0;
+        for (int i = 0; i < shortestList.size; i++) {
+            int questionId = shortestList.questionIds[i];
+            if (questionId >= 0 && isInAll(postingLists, questionId)) {
+                commonIds[numCommonIds++] = questionId;
+            }
+        }
+        return Arrays.copyOf(commonIds, numCommonIds);
+    }
+
+    private static boolean isInAll(List<PostingList> postingLists, int questionId) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(questionId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
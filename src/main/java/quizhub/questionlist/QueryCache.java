@@ -0,0 +1,88 @@
+package quizhub.questionlist;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Represents a bounded cache of search results, from a normalised search to the IDs of the matching questions.
+ * Once the cache is full, the least recently used search is evicted to make room for a new one.
+ * Every cached result belongs to one version of the question list, and is dropped as soon as
+ * the cache is used with a newer version.
+ * The cache locks itself, so searches running at once under the shared lock of the question list may use it.
+ */
+public class QueryCache {
+    public static final int DEFAULT_CAPACITY = 64;
+    private final Map<String, int[]> cachedResults;
+    private int cachedVersion;
+    private int hits;
+    private int misses;
+
+    /**
+     * Creates a new empty cache holding the results of at most the given number of searches.
+     *
+     * @param capacity The maximum number of searches cached.
+     */
+    public QueryCache(int capacity) {
+        assert capacity > 0 : "Cache capacity must be positive";
+        cachedResults = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+        cachedVersion = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Returns the cached result of a search on a version of the question list.
+     * Results cached for any other version are discarded.
+     *
+     * @param search The normalised search.
+     * @param version The current version of the question list.
+     * @return the IDs of the matching questions in list order, or null if the search is not cached
+     */
+    public synchronized int[] get(String search, int version) {
+        if (version != cachedVersion) {
+            cachedResults.clear();
+            cachedVersion = version;
+        }
+        int[] questionIds = cachedResults.get(search);
+        if (questionIds == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return questionIds;
+    }
+
+    /**
+     * Caches the result of a search on a version of the question list.
+     *
+     * @param search The normalised search.
+     * @param version The version of the question list the search was made on.
+     * @param questionIds The IDs of the matching questions in list order.
+     */
+    public synchronized void put(String search, int version, int[] questionIds) {
+        if (version != cachedVersion) {
+            cachedResults.clear();
+            cachedVersion = version;
+        }
+        cachedResults.put(search, questionIds);
+    }
+
+    /**
+     * Returns the number of searches answered from the cache.
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of searches that were not in the cache.
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+}
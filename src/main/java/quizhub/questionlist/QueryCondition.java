@@ -0,0 +1,199 @@
+package quizhub.questionlist;
+
+import quizhub.question.Question;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Represents one condition of a question query, such as the questions being of some modules
+ * or containing some text in their description.
+ * A condition may accept several values, in which case a question matches if it has any of them.
+ */
+public class QueryCondition {
+    /**
+     * Represents the question field a condition is on.
+     */
+    public enum Field {MODULE, DIFFICULTY, TYPE, DONE, TEXT}
+    private final Field field;
+    private final List<String> modules;
+    private final List<Pattern> modulePatterns;
+    private final Set<Question.QnDifficulty> qnDifficulties;
+    private final Set<Question.QnType> qnTypes;
+    private final boolean isDone;
+    private final String text;
+
+    private QueryCondition(Field field, List<String> modules, Set<Question.QnDifficulty> qnDifficulties,
+                           Set<Question.QnType> qnTypes, boolean isDone, String text) {
+        this.field = field;
+        this.modules = modules;
+        this.modulePatterns = new ArrayList<>();
+        for (String module : modules) {
+            modulePatterns.add(compileModulePattern(module));
+        }
+        this.qnDifficulties = qnDifficulties;
+        this.qnTypes = qnTypes;
+        this.isDone = isDone;
+        this.text = text;
+    }
+
+    /**
+     * Creates a condition on questions belonging to any of the given modules, ignoring case.
+     * A module ending with * matches every module starting with the rest of it, and any other module
+     * containing regular expression characters is matched as a pattern against whole module names.
+     *
+     * @param modules The modules to match.
+     */
+    public static QueryCondition moduleIn(List<String> modules) {
+        return new QueryCondition(Field.MODULE, new ArrayList<>(modules), EnumSet.noneOf(Question.QnDifficulty.class),
+                EnumSet.noneOf(Question.QnType.class), false, "");
+    }
+
+    /**
+     * Creates a condition on questions having any of the given difficulties.
+     *
+     * @param qnDifficulties The difficulties to match.
+     */
+    public static QueryCondition difficultyIn(Set<Question.QnDifficulty> qnDifficulties) {
+        Set<Question.QnDifficulty> difficultyValues = EnumSet.noneOf(Question.QnDifficulty.class);
+        difficultyValues.addAll(qnDifficulties);
+        return new QueryCondition(Field.DIFFICULTY, new ArrayList<>(), difficultyValues,
+                EnumSet.noneOf(Question.QnType.class), false, "");
+    }
+
+    /**
+     * Creates a condition on questions being of any of the given types.
+     *
+     * @param qnTypes The question types to match.
+     */
+    public static QueryCondition typeIn(Set<Question.QnType> qnTypes) {
+        Set<Question.QnType> typeValues = EnumSet.noneOf(Question.QnType.class);
+        typeValues.addAll(qnTypes);
+        return new QueryCondition(Field.TYPE, new ArrayList<>(), EnumSet.noneOf(Question.QnDifficulty.class),
+                typeValues, false, "");
+    }
+
+    /**
+     * Creates a condition on questions being done or not done.
+     *
+     * @param isDone If true, done questions match. Otherwise, questions not done match.
+     */
+    public static QueryCondition doneStatusIs(boolean isDone) {
+        return new QueryCondition(Field.DONE, new ArrayList<>(), EnumSet.noneOf(Question.QnDifficulty.class),
+                EnumSet.noneOf(Question.QnType.class), isDone, "");
+    }
+
+    /**
+     * Creates a condition on questions whose description contains some text, ignoring case.
+     *
+     * @param text The text to search for.
+     */
+    public static QueryCondition textContains(String text) {
+        return new QueryCondition(Field.TEXT, new ArrayList<>(), EnumSet.noneOf(Question.QnDifficulty.class),
+                EnumSet.noneOf(Question.QnType.class), false, text);
+    }
+
+    private static Pattern compileModulePattern(String module) {
+        String lowerCaseModule = module.toLowerCase();
+        if (QuestionList.isModulePrefix(module)) {
+            return Pattern.compile(Pattern.quote(QuestionList.getModulePrefix(lowerCaseModule)) + ".*");
+        }
+        if (QuestionList.REGEX_METACHARACTERS.matcher(module).find()) {
+            return Pattern.compile(lowerCaseModule);
+        }
+        return Pattern.compile(Pattern.quote(lowerCaseModule));
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public List<String> getModules() {
+        return Collections.unmodifiableList(modules);
+    }
+
+    public Set<Question.QnDifficulty> getQnDifficulties() {
+        return Collections.unmodifiableSet(qnDifficulties);
+    }
+
+    public Set<Question.QnType> getQnTypes() {
+        return Collections.unmodifiableSet(qnTypes);
+    }
+
+    public boolean getDoneStatus() {
+        return isDone;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the position of the first module of the condition that a question belongs to.
+     *
+     * @param question The question to be checked.
+     * @return the index of the matching module, or -1 if the question belongs to none of them
+     */
+    public int getMatchedModuleIndex(Question question) {
+        String module = question.getModule().toLowerCase();
+        for (int i = 0; i < modulePatterns.size(); i++) {
+            if (modulePatterns.get(i).matcher(module).matches()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a question satisfies the condition.
+     *
+     * @param question The question to be checked.
+     * @return true if the question has any of the values of the condition
+     */
+    public boolean matches(Question question) {
+        switch (field) {
+        case MODULE:
+            return getMatchedModuleIndex(question) >= 0;
+        case DIFFICULTY:
+            return qnDifficulties.contains(question.getDifficulty());
+        case TYPE:
+            return qnTypes.contains(question.getQuestionType());
+        case DONE:
+            return question.questionIsDone() == isDone;
+        case TEXT:
+            return question.getQuestionBody().toLowerCase().contains(text.toLowerCase());
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Returns the condition in a normalised form, where values differing only by case or order are the same.
+     */
+    @Override
+    public String toString() {
+        switch (field) {
+        case MODULE:
+            List<String> sortedModules = new ArrayList<>();
+            for (String module : modules) {
+                sortedModules.add(module.toLowerCase());
+            }
+            Collections.sort(sortedModules);
+            return "module" + sortedModules;
+        case DIFFICULTY:
+            return "difficulty" + qnDifficulties;
+        case TYPE:
+            return "type" + qnTypes;
+        case DONE:
+            return "done[" + isDone + "]";
+        case TEXT:
+            return "text[" + text.toLowerCase() + "]";
+        default:
+            return field.toString();
+        }
+    }
+}
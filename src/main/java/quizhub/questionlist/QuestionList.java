@@ -4,20 +4,35 @@ import quizhub.command.CommandShortAnswer;
 import quizhub.command.CommandStart;
 import quizhub.question.MultipleChoiceQn;
 import quizhub.question.Question;
+import quizhub.question.QuestionArena;
 import quizhub.question.ShortAnsQn;
 import quizhub.exception.QuizHubExceptions;
 import quizhub.ui.Ui;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.InputMismatchException;
-
-import static quizhub.question.Question.QnType.MULTIPLECHOICE;  
-import static quizhub.question.Question.QnType.SHORTANSWER;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * Represents the list of questions currently registered in Quizhub.
  * This list is created on program start and disposed on program termination.
+ * The list can be shared by many threads, such as several quiz sessions: methods that only read the questions
+ * hold a shared lock and may run together, while methods that change the questions, or update the search caches
+ * and indexes, hold an exclusive lock. Questions are replaced by changed copies rather than changed in place,
+ * so a list of questions taken from it never changes afterward.
+ * The questions are kept in a persistent vector, and every change replaces it with a new vector sharing
+ * most of its nodes with the old one, so the whole list can be handed out, such as to a quiz, without copying it.
  */
 public class QuestionList {
     public static final String NO_QN_MSG = "    No questions found! Time to add some OWO";
@@ -29,12 +44,126 @@ public class QuestionList {
     public static final String SEARCH_RESULT_MSG = "    Here are questions that matched your search:";
     public static final String NO_SEARCH_RESULTS_MSG = "    No results found :< Check your keyword is correct?";
     public static final String SHUFFLE_QN_MSG = "    Questions are now shuffled!";
-    private ArrayList<Question> allQns; //array of inputs
+    public static final String NEAR_DUPLICATES_MSG = "    Here are groups of questions that look alike:";
+    public static final String NO_NEAR_DUPLICATES_MSG = "    No near-duplicate questions found! " +
+            "Your list is squeaky clean OwO";
+    public static final String SIMILAR_QN_WARNING_MSG = "    Heads up! The question you added looks like " +
+            "these questions:";
+    public static final String NO_MODULE_QN_MSG = "    No questions found in module ";
+    public static final String RENAME_DUPLICATES_MSG = "    These questions were not moved as the module already has "
+            + "a question with the same description :<";
+    public static final String STATISTICS_MSG = "    Here are the statistics of your question bank:";
+    public static final String MODULE_SUGGESTIONS_MSG = "    Did you mean any of these modules? ";
+    public static final int MAX_MODULE_SUGGESTIONS = 5;
+    private static final int INITIAL_ID_CAPACITY = 16;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+    private static final long MIN_ARENA_BYTES_TO_COMPACT = 1 << 20;
+    static final String MODULE_PREFIX_WILDCARD = "*";
+    static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    private PersistentVector<Question> allQns; //questions in list order, with null tombstones of deleted questions
+    private final FenwickTree listedSlots; //1 for each slot of allQns holding a question, 0 for each tombstone
+    private int numTombstones;
+    private int[] questionPositions; //slot in allQns of each question by question ID, or -1 if not in the list
+    private int nextQuestionId;
+    private QuestionArena arena; //text and modules of the questions, replaced by a compacted arena over time
+    private long compactedArenaBytes; //bytes stored in the arena when it was last compacted
+    private final Map<String, Integer> questionKeyCounts; //number of questions with each duplicate key
+    private final WordIndex descriptionWords; //questions containing each word of their description
+    private final TrigramIndex descriptionTrigrams; //questions containing each trigram of their description
+    private final ModuleIndex moduleIndex; //questions belonging to each module
+    private final BitSet listedQuestions; //IDs of all questions in the list
+    private final Map<Question.QnType, BitSet> questionsByType; //IDs of questions of each type
+    private final Map<Question.QnDifficulty, BitSet> questionsByDifficulty; //IDs of questions of each difficulty
+    private final BitSet doneQuestions; //IDs of questions marked as done
+    private final QuestionStatistics statistics; //counts of questions in total, by type, difficulty and done status
+    private int version; //bumped on every change to the questions or their order
+    private final QueryCache queryCache; //results of recent searches on the current version
+    private MinHashIndex descriptionSignatures; //MinHash signatures of descriptions, built on first use
+    private boolean checksNearDuplicatesOnAdd; //if true, warn when an added question looks like existing ones
+    private final ChangeHistory changeHistory; //recent changes made by commands, which can be undone
+    private final ReentrantReadWriteLock lock; //shared by readers of the questions, exclusive to writers
     /**
      * Creates a new empty question list.
      */
     public QuestionList(){
-        allQns = new ArrayList<>();
+        allQns = PersistentVector.empty();
+        listedSlots = new FenwickTree();
+        numTombstones = 0;
+        questionPositions = new int[INITIAL_ID_CAPACITY];
+        nextQuestionId = 0;
+        arena = new QuestionArena();
+        compactedArenaBytes = 0;
+        questionKeyCounts = new HashMap<>();
+        descriptionWords = new WordIndex();
+        descriptionTrigrams = new TrigramIndex(Question::getQuestionBody);
+        moduleIndex = new ModuleIndex();
+        listedQuestions = new BitSet();
+        questionsByType = new EnumMap<>(Question.QnType.class);
+        for (Question.QnType qnType : Question.QnType.values()) {
+            questionsByType.put(qnType, new BitSet());
+        }
+        questionsByDifficulty = new EnumMap<>(Question.QnDifficulty.class);
+        for (Question.QnDifficulty qnDifficulty : Question.QnDifficulty.values()) {
+            questionsByDifficulty.put(qnDifficulty, new BitSet());
+        }
+        doneQuestions = new BitSet();
+        statistics = new QuestionStatistics();
+        version = 0;
+        queryCache = new QueryCache(QueryCache.DEFAULT_CAPACITY);
+        descriptionSignatures = null;
+        checksNearDuplicatesOnAdd = false;
+        changeHistory = new ChangeHistory(ChangeHistory.DEFAULT_CAPACITY);
+        lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Runs changes to the question list while no other thread reads or changes it,
+     * such as a command's changes together with recording and saving them.
+     * The lock is reentrant, so the changes may call any other method of the question list.
+     *
+     * @param changes The changes to be made.
+     */
+    public void runExclusively(Runnable changes) {
+        lock.writeLock().lock();
+        try {
+            changes.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T callExclusively(Supplier<T> changes) {
+        lock.writeLock().lock();
+        try {
+            return changes.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs reads of the question list while no other thread changes it, though other threads may read it,
+     * such as several reads that must all see the same questions.
+     * The reads must not call methods that change the question list, as a shared lock cannot become exclusive.
+     *
+     * @param reads The reads to be made.
+     */
+    public void runShared(Runnable reads) {
+        lock.readLock().lock();
+        try {
+            reads.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> T callShared(Supplier<T> reads) {
+        lock.readLock().lock();
+        try {
+            return reads.get();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -57,18 +186,7 @@ public class QuestionList {
      */
     public boolean addShortAnswerQn(String description, String answer, String module,
                                  Question.QnDifficulty qnDifficulty, boolean showMessage){
-        assert !allQns.contains(new ShortAnsQn(description, answer, module, qnDifficulty)) :
-                "Duplicate question found!";
-
-        boolean isDuplicate = containsDuplicateQuestion(description, SHORTANSWER, module, showMessage);
-        if (isDuplicate){
-            return false;
-        }
-        allQns.add(new ShortAnsQn(description, answer, module, qnDifficulty));
-        if (showMessage) {
-            printQnAddedMsg();
-        }
-        return true;
+        return addQuestion(new ShortAnsQn(description, answer, module, qnDifficulty, getArena()), showMessage);
     }
 
     /**
@@ -87,307 +205,1581 @@ public class QuestionList {
     public boolean addMultipleChoiceQn(String description, String option1, String option2,
                                     String option3, String option4, int answer, String module,
                                     Question.QnDifficulty qnDifficulty, boolean showMessage) {
-        assert !allQns.contains(new MultipleChoiceQn(description, option1, option2, option3,
-                option4, answer, module, qnDifficulty)) :
-                "Duplicate question found!";
+        return addQuestion(new MultipleChoiceQn(description, option1, option2, option3,
+                option4, answer, module, qnDifficulty, getArena()), showMessage);
+    }
 
-        boolean isDuplicate = containsDuplicateQuestion(description, MULTIPLECHOICE, module, showMessage);
-        if (isDuplicate){
-            return false;
-        }
-        allQns.add(new MultipleChoiceQn(description, option1, option2, option3,
-                option4, answer, module, qnDifficulty));
-        if (showMessage) {
-            printQnAddedMsg();
-        }
-        return true;
+    /**
+     * Adds an already created question to the current question list.
+     * Used when questions are created outside of the question list, such as when loading from storage.
+     * The question is moved into the arena of the question list unless it was created in it.
+     *
+     * @param question The question to be added.
+     * @param showMessage If true, program will print response message on CLI after question is added.
+     * @return true if the question was added, and false if it duplicates an existing question
+     */
+    public boolean addQuestion(Question question, boolean showMessage) {
+        return callExclusively(() -> {
+            boolean isDuplicate = containsDuplicateQuestion(question.getQuestionBody(), question.getQuestionType(),
+                    question.getModule(), showMessage);
+            if (isDuplicate){
+                return false;
+            }
+            question.moveTo(arena);
+            assignQuestionId(question);
+            allQns = allQns.plus(question);
+            listedSlots.append(1);
+            indexQuestionKey(question);
+            updateFilterBits(question, true);
+            version++;
+            if (showMessage) {
+                printQnAddedMsg();
+                if (checksNearDuplicatesOnAdd) {
+                    printSimilarQuestions(question);
+                }
+            }
+            return true;
+        });
     }
 
     /**
-     * Checks if there is a duplicate question.
-     * "Duplicate" (similar description) questions are allowed to exist
-     * in different question types (i.e. in MCQ, then as short ans),
-     * in different modules (i.e. different contexts),
-     * in different difficulties (i.e. different levels),
+     * Adds many already created questions to the current question list in order.
+     * Used when loading questions from storage, without printing any message per question.
      *
-     * @param description The description of the short answer question.
-     * @param qnType The type of question (SHORTANS or MULTIPLECHOICE)
-     * @param module The module of the short answer question.
-     * @return true if all of the above are true
+     * @param questions The questions to be added.
+     * @return Number of questions that were not added as they duplicate an earlier question
      */
-    public boolean containsDuplicateQuestion (String description, Question.QnType qnType, String module,
-                                              boolean showMessage) {
-        for (Question question : allQns) {
-            if (description.strip().equalsIgnoreCase(question.getQuestionBody()) &&
-                qnType.equals(question.getQuestionType()) &&
-                module.equalsIgnoreCase(question.getModule())) {
-                if (showMessage) {
-                    Ui.displayMessageStatically(CommandShortAnswer.DUPLICATED_INPUT);
+    public int addQuestions(List<Question> questions) {
+        return addQuestions(questions, false);
+    }
+
+    /**
+     * Adds many already created questions to the current question list in order.
+     * Questions duplicating an earlier question may be kept, such as when loading a snapshot of the question list,
+     * which holds duplicates left by edits or put back by undo. Dropping them there would shift the list index
+     * of every later question, so changes replayed from the journal by list index would change the wrong questions.
+     *
+     * @param questions The questions to be added.
+     * @param keepsDuplicates If true, questions duplicating an earlier question are added as well.
+     * @return Number of questions that were not added as they duplicate an earlier question
+     */
+    public int addQuestions(List<Question> questions, boolean keepsDuplicates) {
+        return callExclusively(() -> {
+            int duplicateQuestions = 0;
+            for (Question question : questions) {
+                if (!keepsDuplicates && containsDuplicateQuestion(question.getQuestionBody(),
+                        question.getQuestionType(), question.getModule(), false)) {
+                    duplicateQuestions++;
+                    continue;
                 }
-                return true;
+                question.moveTo(arena);
+                assignQuestionId(question);
+                allQns = allQns.plus(question);
+                listedSlots.append(1);
+                indexQuestionKey(question);
+                updateFilterBits(question, true);
+            }
+            version++;
+            return duplicateQuestions;
+        });
+    }
+
+    /**
+     * Puts questions back into the current question list at the given list indexes,
+     * such as questions that were deleted, in one pass over the list.
+     * A question put back keeps its question ID if no other question has taken it, so putting deleted questions
+     * back does not grow the tables kept by question ID. Its ID is then inserted in place in the search indexes.
+     * A copy of each question is put back, in the arena of the question list, as the arena may have been
+     * compacted since the question was deleted.
+     *
+     * @param indexes The list indexes the questions will have once inserted, in ascending order.
+     * @param questions The questions to be inserted, in the same order as their list indexes.
+     */
+    public void insertQuestions(int[] indexes, List<Question> questions) {
+        runExclusively(() -> {
+            assert indexes.length == questions.size() : "Every inserted question needs a list index";
+            List<Question> listedQuestions = getListedQuestions();
+            ArrayList<Question> mergedQuestions = new ArrayList<>(listedQuestions.size() + indexes.length);
+            int nextListedQuestion = 0;
+            for (int i = 0; i < indexes.length; i++) {
+                assert indexes[i] >= 1 && indexes[i] <= listedQuestions.size() + i + 1 : "List index out of range";
+                while (mergedQuestions.size() < indexes[i] - 1) {
+                    mergedQuestions.add(listedQuestions.get(nextListedQuestion++));
+                }
+                Question question = questions.get(i).copyTo(arena);
+                if (!isFreeQuestionId(question.getQuestionId())) {
+                    assignQuestionId(question);
+                }
+                mergedQuestions.add(question);
+                indexQuestionKey(question);
+                updateFilterBits(question, true);
             }
+            mergedQuestions.addAll(listedQuestions.subList(nextListedQuestion, listedQuestions.size()));
+            allQns = PersistentVector.copyOf(mergedQuestions);
+            listedSlots.reset(allQns.size(), 1);
+            updatePositions(indexes.length == 0 ? allQns.size() : indexes[0] - 1);
+            version++;
+        });
+    }
+
+    /**
+     * Checks if a question ID was handed out to a question that has since been deleted,
+     * so the question can be put back with it.
+     */
+    private boolean isFreeQuestionId(int questionId) {
+        return questionId >= 0 && questionId < nextQuestionId && questionPositions[questionId] < 0;
+    }
+
+    /**
+     * Assigns a new question ID to a question about to be added to the back of the question list.
+     *
+     * @param question The question to be added.
+     */
+    private void assignQuestionId(Question question) {
+        if (nextQuestionId == questionPositions.length) {
+            questionPositions = Arrays.copyOf(questionPositions, questionPositions.length * 2);
         }
-        return false;
+        question.setQuestionId(nextQuestionId);
+        questionPositions[nextQuestionId] = allQns.size();
+        nextQuestionId++;
     }
 
     /**
-     * Prints the details of a question in CLI.
+     * Sets or clears the bits of a question in the bitmaps of all questions, its type,
+     * its difficulty and done questions, and counts it in or out of the statistics.
      *
-     * @param question The question in which details are to be printed.
-     * @param asList If true, prints out the index of the question in the question list
-     *               in addition to the details of the question.
+     * @param question The question added to or removed from the question list.
+     * @param isListed If true, the question was added and its bits are set. Otherwise, they are cleared.
      */
-    public void printQuestion(Question question, boolean asList){
-        int qnIndex = allQns.indexOf(question);
-        int oneIndexed = ++qnIndex;
-        String indexString = "    ";
-        if(asList) {
-            indexString += oneIndexed + ": ";
+    private void updateFilterBits(Question question, boolean isListed) {
+        int questionId = question.getQuestionId();
+        listedQuestions.set(questionId, isListed);
+        questionsByType.get(question.getQuestionType()).set(questionId, isListed);
+        questionsByDifficulty.get(question.getDifficulty()).set(questionId, isListed);
+        doneQuestions.set(questionId, isListed && question.questionIsDone());
+        if (isListed) {
+            statistics.add(question);
         } else {
-            indexString += "    ";
+            statistics.remove(question);
         }
-        Ui.displayMessageStatically(indexString + question);
     }
-    
+
     /**
-     * Prints all the questions in the current question list as an indexed list.
+     * Updates the slot of every question from the given slot onwards.
+     * Used after questions are reordered or tombstones are compacted.
+     *
+     * @param fromSlot The first slot (0-indexed) whose question may have moved.
      */
-    public void printQuestionList(){
-        if(allQns.isEmpty()){
-            Ui.displayMessageStatically(NO_QN_MSG);
-            return;
+    private void updatePositions(int fromSlot) {
+        for (int i = fromSlot; i < allQns.size(); i++) {
+            questionPositions[allQns.get(i).getQuestionId()] = i;
         }
-        for (Question question : allQns) {
-            printQuestion(question, true);
+    }
+
+    /**
+     * Removes the tombstones left by deleted questions, moving the remaining questions up in list order.
+     * This takes linear time, so it is only done once tombstones make up half of the slots, or before
+     * going through every question, which takes linear time anyway.
+     */
+    private void compactTombstones() {
+        if (numTombstones == 0) {
+            return;
         }
+        allQns = PersistentVector.copyOf(copyListedQuestions());
+        numTombstones = 0;
+        listedSlots.reset(allQns.size(), 1);
+        updatePositions(0);
     }
+
     /**
-     * Mark a question in the current question list as done.
-     *
-     * @param index The list index of the question to be marked as done.
-     * @param showMessage If true, program will print response message on CLI
-     *                    after question is marked as done.
+     * Moves every question into a new arena once the current arena has grown to twice its size after it was last
+     * compacted, so that text no question uses any more, such as text replaced by an edit or that of a deleted
+     * question, is freed. Each question is replaced by a copy in the new arena, so old copies of the questions,
+     * such as those held by an ongoing quiz or for undo, keep the old arena and stay readable.
+     * This takes linear time in the size of the text, so it is only done along with other linear work,
+     * when tombstones are compacted or the question list is saved, and at most once per doubling of the arena.
      */
-    public void markQuestionAsDone (int index, boolean showMessage){
-        Question question;
-        try{
-            int oneIndexed = index-1;
-            question = allQns.get(oneIndexed);
-        } catch (IndexOutOfBoundsException invalidIndex){
-            Ui.displayMessageStatically(INVALID_QN_MSG);
+    private void compactArena() {
+        long storedBytes = arena.getStoredBytes();
+        if (storedBytes < MIN_ARENA_BYTES_TO_COMPACT || storedBytes < 2 * compactedArenaBytes) {
             return;
         }
-        assert(question != null);
-        if(!question.questionIsDone()) {
-            question.markAsDone();
-            if (showMessage) {
-                Ui.displayMessageStatically(QN_MARKED_MSG);
-                printQuestion(question, false);
-            }
-        } else {
-            Ui.displayMessageStatically(QN_NO_CHANGE_MSG);
+        compactTombstones();
+        QuestionArena compactedArena = new QuestionArena();
+        ArrayList<Question> movedQuestions = new ArrayList<>(allQns.size());
+        for (Question question : allQns) {
+            movedQuestions.add(question.copyTo(compactedArena));
         }
+        allQns = PersistentVector.copyOf(movedQuestions);
+        arena = compactedArena;
+        compactedArenaBytes = compactedArena.getStoredBytes();
     }
+
     /**
-     * Mark the difficulty of a question in the current question list.
+     * Compacts the arena of the current question list if enough of its text is no longer used.
+     * Used before the question list is saved, which goes through every question anyway.
+     * The questions in the list may be replaced by copies, as when they are edited.
+     */
+    public void compactBeforeSave() {
+        runExclusively(this::compactArena);
+    }
+
+    /**
+     * Returns the arena holding the text and modules of the questions in the current question list.
+     * Questions created in it, such as those loaded from storage, are added without their text being moved.
+     */
+    public QuestionArena getArena() {
+        return callShared(() -> arena);
+    }
+
+    /**
+     * Replaces a question in the current question list with a copy of it, which is then changed instead.
+     * Questions are never changed in place, so anyone still holding a question read earlier,
+     * such as an ongoing quiz, keeps seeing the question as it was.
      *
-     * @param index The list index of the question to be marked.
-     * @param qnDifficulty Difficulty to be assigned to the question.
-     * @param showMessage If true, program will print response message on CLI
-     *                    after question difficulty is marked.
+     * @param question The question about to be changed.
+     * @return the copy now in the question list
      */
-    public void markQuestionDifficulty(int index, Question.QnDifficulty qnDifficulty,  boolean showMessage){
-        String difficulty = null;
-        switch (qnDifficulty){
-        case EASY:
-            difficulty = "easy";
-            break;
-        case HARD:
-            difficulty = "hard";
-            break;
-        case NORMAL:
-            difficulty = "normal";
-            break;
-        default:
-            break;
+    private Question copyOnWrite(Question question) {
+        Question copy = question.copy();
+        allQns = allQns.with(questionPositions[question.getQuestionId()], copy);
+        return copy;
+    }
+
+    /**
+     * Returns the questions in the current question list in list order, without tombstones.
+     * Used to go through every question.
+     * Tombstones are only compacted when the question list is locked exclusively, as reads under the shared lock
+     * must not change it. They are then skipped in a copy of the questions instead.
+     * Once compacted, the vector of questions holds no tombstones, so it is returned as is.
+     */
+    private List<Question> getListedQuestions() {
+        if (lock.isWriteLockedByCurrentThread()) {
+            compactTombstones();
         }
-        try{
-            Question question = allQns.get(index-1);
-            if(question.getDifficulty() == qnDifficulty){
-                Ui.displayMessageStatically("    Question is already set as " +
-                        difficulty + " ! No changes made!");
-                return;
-            }
-            allQns.get(index-1).markDifficulty(qnDifficulty);
-            if(!showMessage) {
-                return;
+        return numTombstones == 0 ? allQns : copyListedQuestions();
+    }
+
+    /**
+     * Returns a new list of the questions in the current question list in list order, skipping tombstones.
+     */
+    private ArrayList<Question> copyListedQuestions() {
+        ArrayList<Question> listedQuestions = new ArrayList<>(allQns.size() - numTombstones);
+        for (Question question : allQns) {
+            if (question != null) {
+                listedQuestions.add(question);
             }
-            Ui.displayMessageStatically("    Roger that! I have marked the following question as " +
-                    difficulty + " >w< !");
-            printQuestion(question, false);
-        } catch (IndexOutOfBoundsException invalidIndex){
-            Ui.displayMessageStatically(INVALID_QN_MSG);
         }
+        return listedQuestions;
     }
+
     /**
-     * Delete a question from the current question list.
+     * Returns the slot in allQns of the question at a list index, in logarithmic time
+     * by finding the slot where the number of questions up to it reaches the list index.
      *
-     * @param index The list index of the question to be deleted.
+     * @param index The 1-based list index of the question.
+     * @return the 0-based slot of the question
+     * @throws IndexOutOfBoundsException If there is no question at the list index.
      */
-    public void deleteQuestionByIndex(int index){
-        try{
-            Question question = allQns.get(index-1);
-            allQns.remove(index - 1);
-            Ui.displayMessageStatically(DELETE_QN_MSG);
-            printQuestion(question, false);
-            Ui.displayMessageStatically("    Now you have " + getQuestionListSize() + " questions in the list! UWU");
-        } catch (IndexOutOfBoundsException invalidIndex){
-            Ui.displayMessageStatically(INVALID_QN_MSG);
+    private int getSlot(int index) {
+        if (index <= 0 || index > getQuestionListSize()) {
+            throw new IndexOutOfBoundsException("No question at index " + index);
         }
+        return listedSlots.findIndexOfSum(index);
     }
+
     /**
-     * Returns the description and all other details of a question in one String object.
-     * Used to display question details in CLI.
+     * Returns the question at a list index of the current question list.
      *
-     * @param index The list index of the question to be viewed.
-     * @return String value of the question
+     * @param index The 1-based list index of the question.
+     * @throws IndexOutOfBoundsException If there is no question at the list index.
      */
-    public String viewQuestionByIndex(int index){
-        try{
-            return allQns.get(index-1).toString();
-        } catch(InputMismatchException |NullPointerException | IndexOutOfBoundsException invalidIndex){
-            return "Question Not Found";
-        }
+    private Question getQuestionAt(int index) {
+        return allQns.get(getSlot(index));
     }
 
     /**
-     * Delete a question from the current question list.
+     * Returns the list index of a question in the current question list, in logarithmic time
+     * by counting the questions in the slots up to its own.
      *
-     * @param index The list index of the question to be deleted.
+     * @param question A question in the current question list.
+     * @return the 1-based list index of the question, or 0 if it is not in the question list
      */
-    public void editQuestionByIndex(int index, String editField, String newValue){
-        Question question = allQns.get(index - 1);
-        question.editQuestion(editField, newValue);
-        printQuestion(question, false);
+    public int getQuestionPosition(Question question) {
+        return callShared(() -> {
+            int slot = getQuestionSlot(question);
+            if (slot < 0) {
+                return 0;
+            }
+            return listedSlots.prefixSum(slot + 1);
+        });
     }
+
     /**
-     * Search for questions in the current question list using their description.
+     * Returns the slot of a question in allQns, in constant time.
+     * Slots are in list order, so questions can be sorted by their slots instead of their list indexes.
      *
-     * @param keyword Description keyword(s) used to search for matches.
+     * @param question A question in the current question list.
+     * @return the 0-based slot of the question, or -1 if it is not in the question list
      */
-    public void searchListByDescription(String keyword){
-        ArrayList<Question> matchedQuestions = new ArrayList<>();
-        if(allQns.isEmpty()) {
-            Ui.displayMessageStatically(EMPTY_LIST_MSG);
-            return;
-        }
-        Ui.displayMessageStatically(SEARCH_RESULT_MSG);
-        for (Question question : allQns) {
-            if (!question.getQuestionBody().toLowerCase().contains(keyword.toLowerCase())) {
-                continue;
-            }
-            matchedQuestions.add(question);
-            printQuestion(question, true);
+    private int getQuestionSlot(Question question) {
+        int questionId = question.getQuestionId();
+        if (questionId < 0 || questionId >= nextQuestionId) {
+            return -1;
         }
-        if (matchedQuestions.isEmpty()) {
-            Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
+        int slot = questionPositions[questionId];
+        if (slot < 0 || allQns.get(slot) != question) {
+            return -1;
         }
+        return slot;
     }
 
     /**
-     * Search for questions in the current question list using their module.
+     * Returns the question with the given question ID, in constant time.
      *
-     * @param module Module used to search for matches.
+     * @param questionId The ID of a question in the current question list.
+     * @return the question with the ID
      */
-    public void searchListByModule(String module){
-        ArrayList<Question> matchedQuestions = new ArrayList<>();
-        if(allQns.isEmpty()){
-            Ui.displayMessageStatically(EMPTY_LIST_MSG);
-        } else {
-            Ui.displayMessageStatically(SEARCH_RESULT_MSG);
-            for (Question question : allQns) {
-                if(question.getModule().toLowerCase().contains(module.toLowerCase())){
-                    matchedQuestions.add(question);
-                    printQuestion(question, true);
-                }
-            }
-            if(matchedQuestions.isEmpty()){
-                Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
-            }
-        }
+    private Question getQuestionById(int questionId) {
+        return allQns.get(questionPositions[questionId]);
     }
+
     /**
-     * Build a new list of questions based on a list of specified modules.
+     * Returns the key used to detect duplicate questions.
+     * Questions with the same key are treated as duplicates of each other.
      *
-     * @param modules Modules used to search for matches.
-     * @return array list of questions by module
+     * @param description The description of the question.
+     * @param qnType The type of the question.
+     * @param module The module of the question.
+     * @return the normalized description, type and module of the question
      */
-    public ArrayList<Question> assembleListByModules(String[] modules) throws QuizHubExceptions{
-        ArrayList<Question> matchedQuestions = new ArrayList<>();
-        if (allQns.isEmpty()) {
-            throw new QuizHubExceptions(EMPTY_LIST_MSG);
+    private static String getQuestionKey(String description, Question.QnType qnType, String module) {
+        return qnType + "|" + description.strip().toLowerCase() + "|" + module.toLowerCase();
+    }
+
+    /**
+     * Adds a question to the index of duplicate keys and the search indexes.
+     *
+     * @param question The question that was added to the question list.
+     */
+    private void indexQuestionKey(Question question) {
+        questionKeyCounts.merge(getQuestionKey(question.getQuestionBody(), question.getQuestionType(),
+                question.getModule()), 1, Integer::sum);
+        descriptionWords.add(question);
+        descriptionTrigrams.add(question);
+        moduleIndex.add(question);
+        if (descriptionSignatures != null) {
+            descriptionSignatures.add(question);
         }
-        for (String module : modules) {
-            assembleListByModule(module, matchedQuestions);
+    }
+
+    /**
+     * Removes a question from the index of duplicate keys and the search indexes.
+     *
+     * @param question The question that is removed from the question list.
+     */
+    private void unindexQuestionKey(Question question) {
+        String questionKey = getQuestionKey(question.getQuestionBody(), question.getQuestionType(),
+                question.getModule());
+        questionKeyCounts.computeIfPresent(questionKey, (key, count) -> count > 1 ? count - 1 : null);
+        descriptionWords.remove(question);
+        descriptionTrigrams.remove(question);
+        moduleIndex.remove(question);
+        if (descriptionSignatures != null) {
+            descriptionSignatures.remove(question);
         }
-        return matchedQuestions;
     }
+
     /**
-     * Build a new list of questions based on a specified module.
+     * Checks if there is a duplicate question.
+     * "Duplicate" (similar description) questions are allowed to exist
+     * in different question types (i.e. in MCQ, then as short ans),
+     * in different modules (i.e. different contexts),
+     * in different difficulties (i.e. different levels),
+     * Duplicates are looked up in a hash index of question keys kept up to date on every
+     * add, delete and edit, so the check takes constant time regardless of the number of questions.
      *
-     * @param module The module used to search for matches.
-     * @param matchedQuestions Question list to append matching questions to.
+     * @param description The description of the short answer question.
+     * @param qnType The type of question (SHORTANS or MULTIPLECHOICE)
+     * @param module The module of the short answer question.
+     * @return true if all of the above are true
      */
-    public void assembleListByModule(String module, ArrayList<Question> matchedQuestions){
-        for (Question question : allQns) {
-            if (!question.getModule().toLowerCase().matches(module.toLowerCase())) {
-                continue;
+    public boolean containsDuplicateQuestion (String description, Question.QnType qnType, String module,
+                                              boolean showMessage) {
+        return callShared(() -> {
+            if (!questionKeyCounts.containsKey(getQuestionKey(description, qnType, module))) {
+                return false;
             }
-            matchedQuestions.add(question);
-        }
+            if (showMessage) {
+                Ui.displayMessageStatically(CommandShortAnswer.DUPLICATED_INPUT);
+            }
+            return true;
+        });
     }
+
     /**
-     * Returns the size of current question list.
+     * Prints the details of a question in CLI.
+     *
+     * @param question The question in which details are to be printed.
+     * @param asList If true, prints out the index of the question in the question list
+     *               in addition to the details of the question.
      */
-    public int getQuestionListSize(){
-        return allQns.size();
+    public void printQuestion(Question question, boolean asList){
+        runShared(() -> {
+            int oneIndexed = getQuestionPosition(question);
+            String indexString = "    ";
+            if(asList) {
+                indexString += oneIndexed + ": ";
+            } else {
+                indexString += "    ";
+            }
+            Ui.displayMessageStatically(indexString + question);
+        });
     }
+    
     /**
-     * Returns a list of all questions in the current question list.
+     * Prints the given questions of the current question list with their list index.
+     *
+     * @param questions Questions of the current question list.
+     * @param emptyMessage Message printed instead if there are no questions.
      */
-    public ArrayList<Question> getAllQns(){
-        return allQns;
+    public void printQuestions(List<Question> questions, String emptyMessage){
+        runShared(() -> {
+            if (questions.isEmpty()) {
+                Ui.displayMessageStatically(emptyMessage);
+                return;
+            }
+            for (Question question : questions) {
+                printQuestion(question, true);
+            }
+        });
     }
+
     /**
-     * Shuffles the order of questions in the deck
+     * Prints all the questions in the current question list as an indexed list.
      */
-    public void shuffleQuestions(Ui ui) {
-        Collections.shuffle(allQns);
-        if(!allQns.isEmpty()){
-            ui.displayMessage(SHUFFLE_QN_MSG);
-        }
-        printQuestionList();
+    public void printQuestionList(){
+        runShared(() -> {
+            if(getQuestionListSize() == 0){
+                Ui.displayMessageStatically(NO_QN_MSG);
+                return;
+            }
+            for (Question question : getListedQuestions()) {
+                printQuestion(question, true);
+            }
+        });
     }
     /**
-     * Retrieves the question by its index in the question list.
+     * Mark a question in the current question list as done.
      *
-     * @param index The index of the question in the list.
-     * @return The question, or null if the index is invalid or the question is of a different type.
+     * @param index The list index of the question to be marked as done.
+     * @param showMessage If true, program will print response message on CLI
+     *                    after question is marked as done.
      */
-    public Question getQuestionByIndex(int index) {
-        if (index > 0 && index <= allQns.size()) {
-            return allQns.get(index - 1); // Use the toString() method to get the text of the question
-        }
-        return null; // Handle invalid index
+    public void markQuestionAsDone (int index, boolean showMessage){
+        runExclusively(() -> {
+            Question question;
+            try{
+                question = getQuestionAt(index);
+            } catch (IndexOutOfBoundsException invalidIndex){
+                Ui.displayMessageStatically(INVALID_QN_MSG);
+                return;
+            }
+            assert(question != null);
+            if(!question.questionIsDone()) {
+                question = copyOnWrite(question);
+                question.markAsDone();
+                doneQuestions.set(question.getQuestionId());
+                statistics.markDone();
+                version++;
+                if (showMessage) {
+                    Ui.displayMessageStatically(QN_MARKED_MSG);
+                    printQuestion(question, false);
+                }
+            } else {
+                Ui.displayMessageStatically(QN_NO_CHANGE_MSG);
+            }
+        });
     }
-
     /**
-     * Starts a quiz session using the provided user interface (UI).
+     * Mark the difficulty of a question in the current question list.
      *
-     * @param ui The user interface to interact with the user.
+     * @param index The list index of the question to be marked.
+     * @param qnDifficulty Difficulty to be assigned to the question.
+     * @param showMessage If true, program will print response message on CLI
+     *                    after question difficulty is marked.
+     * @return true if the difficulty of the question was changed
      */
+    public boolean markQuestionDifficulty(int index, Question.QnDifficulty qnDifficulty,  boolean showMessage){
+        return callExclusively(() -> {
+            String difficulty = null;
+            switch (qnDifficulty){
+            case EASY:
+                difficulty = "easy";
+                break;
+            case HARD:
+                difficulty = "hard";
+                break;
+            case NORMAL:
+                difficulty = "normal";
+                break;
+            default:
+                break;
+            }
+            try{
+                Question question = getQuestionAt(index);
+                if(question.getDifficulty() == qnDifficulty){
+                    if (showMessage) {
+                        Ui.displayMessageStatically("    Question is already set as " +
+                                difficulty + " ! No changes made!");
+                    }
+                    return false;
+                }
+                questionsByDifficulty.get(question.getDifficulty()).clear(question.getQuestionId());
+                statistics.changeDifficulty(question.getDifficulty(), qnDifficulty);
+                question = copyOnWrite(question);
+                question.markDifficulty(qnDifficulty);
+                questionsByDifficulty.get(qnDifficulty).set(question.getQuestionId());
+                version++;
+                if(!showMessage) {
+                    return true;
+                }
+                Ui.displayMessageStatically("    Roger that! I have marked the following question as " +
+                        difficulty + " >w< !");
+                printQuestion(question, false);
+                return true;
+            } catch (IndexOutOfBoundsException invalidIndex){
+                if (showMessage) {
+                    Ui.displayMessageStatically(INVALID_QN_MSG);
+                }
+                return false;
+            }
+        });
+    }
+    /**
+     * Delete a question from the current question list.
+     *
+     * @param index The list index of the question to be deleted.
+     */
+    public void deleteQuestionByIndex(int index){
+        deleteQuestionByIndex(index, true);
+    }
+    /**
+     * Delete a question from the current question list.
+     * The question's slot is left as a tombstone instead of shifting every later question up,
+     * so deleting takes logarithmic time until the tombstones are compacted.
+     *
+     * @param index The list index of the question to be deleted.
+     * @param showMessage If true, program will print response message on CLI
+     *                    after question is deleted.
+     */
+    public void deleteQuestionByIndex(int index, boolean showMessage){
+        runExclusively(() -> {
+            try{
+                int slot = getSlot(index);
+                Question question = allQns.get(slot);
+                allQns = allQns.with(slot, null);
+                listedSlots.add(slot, -1);
+                numTombstones++;
+                questionPositions[question.getQuestionId()] = -1;
+                updateFilterBits(question, false);
+                unindexQuestionKey(question);
+                if (numTombstones >= MIN_TOMBSTONES_TO_COMPACT && numTombstones >= getQuestionListSize()) {
+                    compactTombstones();
+                    compactArena();
+                }
+                version++;
+                if (!showMessage) {
+                    return;
+                }
+                Ui.displayMessageStatically(DELETE_QN_MSG);
+                printQuestion(question, false);
+                Ui.displayMessageStatically("    Now you have " + getQuestionListSize()
+                        + " questions in the list! UWU");
+            } catch (IndexOutOfBoundsException invalidIndex){
+                if (showMessage) {
+                    Ui.displayMessageStatically(INVALID_QN_MSG);
+                }
+            }
+        });
+    }
+    /**
+     * Checks if every list index refers to a question in the current question list.
+     */
+    private boolean areValidIndexes(int[] indexes){
+        for (int index : indexes) {
+            if (index <= 0 || index > getQuestionListSize()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes several questions from the current question list in one pass.
+     * Questions are deleted from the highest list index down, so the list indexes of the questions
+     * still to be deleted stay the same, and each deletion only leaves a tombstone.
+     * No question is deleted if any of the list indexes is invalid.
+     *
+     * @param indexes The distinct list indexes of the questions to be deleted, in ascending order.
+     * @param showMessage If true, program will print response message on CLI after the questions are deleted.
+     * @return the list indexes in the order the questions were deleted, or no indexes if any index is invalid
+     */
+    public int[] deleteQuestionsByIndexes(int[] indexes, boolean showMessage){
+        return callExclusively(() -> {
+            if (!areValidIndexes(indexes)) {
+                if (showMessage) {
+                    Ui.displayMessageStatically(INVALID_QN_MSG);
+                }
+                return new int[0];
+            }
+            int[] deletedIndexes = new int[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                deletedIndexes[i] = indexes[indexes.length - 1 - i];
+                deleteQuestionByIndex(deletedIndexes[i], false);
+            }
+            if (showMessage) {
+                Ui.displayMessageStatically("    Roger that! I have deleted " + indexes.length
+                        + " questions >w< !");
+                Ui.displayMessageStatically("    Now you have " + getQuestionListSize()
+                        + " questions in the list! UWU");
+            }
+            return deletedIndexes;
+        });
+    }
+
+    /**
+     * Marks the difficulty of several questions in the current question list in one pass.
+     * No question is marked if any of the list indexes is invalid.
+     *
+     * @param indexes The distinct list indexes of the questions to be marked.
+     * @param qnDifficulty Difficulty to be assigned to the questions.
+     * @param showMessage If true, program will print response message on CLI after the questions are marked.
+     * @return the list indexes of the questions whose difficulty was changed
+     */
+    public int[] markQuestionsDifficulty(int[] indexes, Question.QnDifficulty qnDifficulty, boolean showMessage){
+        return callExclusively(() -> {
+            if (!areValidIndexes(indexes)) {
+                if (showMessage) {
+                    Ui.displayMessageStatically(INVALID_QN_MSG);
+                }
+                return new int[0];
+            }
+            int[] markedIndexes = Arrays.stream(indexes)
+                    .filter(index -> markQuestionDifficulty(index, qnDifficulty, false))
+                    .toArray();
+            if (showMessage) {
+                String difficulty = qnDifficulty.toString().toLowerCase();
+                if (markedIndexes.length == 0) {
+                    Ui.displayMessageStatically("    Questions are already set as " + difficulty
+                            + " ! No changes made!");
+                } else {
+                    Ui.displayMessageStatically("    Roger that! I have marked " + markedIndexes.length
+                            + " questions as " + difficulty + " >w< !");
+                }
+            }
+            return markedIndexes;
+        });
+    }
+
+    /**
+     * Moves every question of a module to another module, ignoring case, in one pass.
+     * The questions of the module are found through the module index rather than by going through every question.
+     * A question is not moved if the new module already has a question of the same type and description.
+     *
+     * @param oldModule The module whose questions are moved.
+     * @param newModule The module the questions are moved to.
+     * @param showMessage If true, program will print response message on CLI after the questions are moved.
+     * @return the list indexes of the moved questions in ascending order
+     */
+    public int[] renameModule(String oldModule, String newModule, boolean showMessage){
+        return renameModule(oldModule, newModule, new ArrayList<>(), showMessage);
+    }
+
+    /**
+     * Moves every question of a module to another module, ignoring case, in one pass,
+     * keeping the module each question had before it was moved.
+     * A question is not moved if the new module already has a question of the same type and description,
+     * as the two would be duplicates, and only one of them would be kept once the question list is loaded again.
+     * Such questions are listed on CLI instead if showMessage is true.
+     *
+     * @param oldModule The module whose questions are moved.
+     * @param newModule The module the questions are moved to.
+     * @param previousModules The list to which the module of each moved question before the move is added,
+     *                        in the same order as the returned list indexes.
+     * @param showMessage If true, program will print response message on CLI after the questions are moved.
+     * @return the list indexes of the moved questions in ascending order
+     */
+    public int[] renameModule(String oldModule, String newModule, List<String> previousModules,
+                              boolean showMessage){
+        return callExclusively(() -> {
+            List<Question> moduleQuestions = getQuestionsByIds(moduleIndex.getQuestions(oldModule));
+            int[] movedIndexes = new int[moduleQuestions.size()];
+            int numMoved = 0;
+            List<Question> duplicateQuestions = new ArrayList<>();
+            for (Question question : moduleQuestions) {
+                String questionKey = getQuestionKey(question.getQuestionBody(), question.getQuestionType(),
+                        question.getModule());
+                String movedKey = getQuestionKey(question.getQuestionBody(), question.getQuestionType(), newModule);
+                if (!movedKey.equals(questionKey) && questionKeyCounts.containsKey(movedKey)) {
+                    duplicateQuestions.add(question);
+                    continue;
+                }
+                movedIndexes[numMoved++] = getQuestionPosition(question);
+                previousModules.add(question.getModule());
+                unindexQuestionKey(question);
+                question = copyOnWrite(question);
+                question.editQuestion("module", newModule);
+                indexQuestionKey(question);
+            }
+            if (numMoved > 0) {
+                version++;
+            }
+            if (showMessage) {
+                if (moduleQuestions.isEmpty()) {
+                    Ui.displayMessageStatically(NO_MODULE_QN_MSG + oldModule + " :<");
+                } else {
+                    Ui.displayMessageStatically("    Roger that! I have moved " + numMoved
+                            + " questions from " + oldModule + " to " + newModule + " >w< !");
+                }
+                if (!duplicateQuestions.isEmpty()) {
+                    Ui.displayMessageStatically(RENAME_DUPLICATES_MSG);
+                    for (Question question : duplicateQuestions) {
+                        printQuestion(question, true);
+                    }
+                }
+            }
+            return Arrays.copyOf(movedIndexes, numMoved);
+        });
+    }
+
+    /**
+     * Returns the description and all other details of a question in one String object.
+     * Used to display question details in CLI.
+     *
+     * @param index The list index of the question to be viewed.
+     * @return String value of the question
+     */
+    public String viewQuestionByIndex(int index){
+        return callShared(() -> {
+            try{
+                return getQuestionAt(index).toString();
+            } catch(InputMismatchException |NullPointerException | IndexOutOfBoundsException invalidIndex){
+                return "Question Not Found";
+            }
+        });
+    }
+
+    /**
+     * Edit a question from the current question list.
+     *
+     * @param index The list index of the question to be edited.
+     * @param editField The field of the question to be edited.
+     * @param newValue The new value of the edited field.
+     */
+    public void editQuestionByIndex(int index, String editField, String newValue){
+        editQuestionByIndex(index, editField, newValue, true);
+    }
+    /**
+     * Edit a question from the current question list.
+     *
+     * @param index The list index of the question to be edited.
+     * @param editField The field of the question to be edited.
+     * @param newValue The new value of the edited field.
+     * @param showMessage If true, program will print the edited question on CLI.
+     */
+    public void editQuestionByIndex(int index, String editField, String newValue, boolean showMessage){
+        runExclusively(() -> {
+            Question question = getQuestionAt(index);
+            unindexQuestionKey(question);
+            question = copyOnWrite(question);
+            question.editQuestion(editField, newValue);
+            indexQuestionKey(question);
+            version++;
+            if (showMessage) {
+                printQuestion(question, false);
+            }
+        });
+    }
+    /**
+     * Search for questions in the current question list using their description.
+     *
+     * @param keyword Description keyword(s) used to search for matches.
+     */
+    public void searchListByDescription(String keyword){
+        runShared(() -> {
+            if(getQuestionListSize() == 0) {
+                Ui.displayMessageStatically(EMPTY_LIST_MSG);
+                return;
+            }
+            Ui.displayMessageStatically(SEARCH_RESULT_MSG);
+            List<Question> matchedQuestions = searchWithCache("description " + keyword.toLowerCase(),
+                    () -> searchBySubstring(descriptionTrigrams, keyword));
+            for (Question question : matchedQuestions) {
+                printQuestion(question, true);
+            }
+            if (matchedQuestions.isEmpty()) {
+                Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
+            }
+        });
+    }
+
+    /**
+     * Search for questions in the current question list containing every one of the given words
+     * in their description.
+     * Unlike searchListByDescription, only whole words are matched, which allows the matches
+     * to be looked up in the word index instead of checking every question.
+     *
+     * @param keywords Description words used to search for matches.
+     */
+    public void searchListByKeywords(String keywords){
+        runShared(() -> {
+            if(getQuestionListSize() == 0) {
+                Ui.displayMessageStatically(EMPTY_LIST_MSG);
+                return;
+            }
+            Ui.displayMessageStatically(SEARCH_RESULT_MSG);
+            List<String> sortedKeywords = WordIndex.extractWords(keywords);
+            Collections.sort(sortedKeywords);
+            List<Question> matchedQuestions = searchWithCache("keywords " + sortedKeywords,
+                    () -> getQuestionsByIds(descriptionWords.search(keywords)));
+            for (Question question : matchedQuestions) {
+                printQuestion(question, true);
+            }
+            if (matchedQuestions.isEmpty()) {
+                Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
+            }
+        });
+    }
+
+    /**
+     * Search for questions in the current question list containing, for every one of the given words,
+     * a word in their description within a number of typos of it.
+     * Only the words of the word index that are close enough to each keyword are looked up,
+     * through a BK-tree of all the words, rather than every question.
+     *
+     * @param keywords Description words used to search for matches, which may be mistyped.
+     * @param maxDistance Number of typos (Levenshtein distance) allowed per keyword,
+     *                    or WordIndex.AUTOMATIC_DISTANCE to allow more typos in longer keywords.
+     */
+    public void searchListByFuzzyKeywords(String keywords, int maxDistance){
+        runShared(() -> {
+            if(getQuestionListSize() == 0) {
+                Ui.displayMessageStatically(EMPTY_LIST_MSG);
+                return;
+            }
+            Ui.displayMessageStatically(SEARCH_RESULT_MSG);
+            List<String> sortedKeywords = WordIndex.extractWords(keywords);
+            Collections.sort(sortedKeywords);
+            List<Question> matchedQuestions = searchWithCache("fuzzy " + maxDistance + " " + sortedKeywords,
+                    () -> getQuestionsByIds(descriptionWords.searchFuzzy(keywords, maxDistance)));
+            for (Question question : matchedQuestions) {
+                printQuestion(question, true);
+            }
+            if (matchedQuestions.isEmpty()) {
+                Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
+            }
+        });
+    }
+
+    /**
+     * Search for the questions in the current question list most relevant to the given words,
+     * ranked by their BM25 score over the word index. Only the given number of best matches are printed,
+     * from the most relevant down.
+     *
+     * @param keywords Description words used to search for matches.
+     * @param maxResults The largest number of questions printed.
+     */
+    public void searchListByRelevance(String keywords, int maxResults){
+        runShared(() -> {
+            if(getQuestionListSize() == 0) {
+                Ui.displayMessageStatically(EMPTY_LIST_MSG);
+                return;
+            }
+            Ui.displayMessageStatically(SEARCH_RESULT_MSG);
+            List<String> sortedKeywords = WordIndex.extractWords(keywords);
+            Collections.sort(sortedKeywords);
+            List<Question> rankedQuestions = searchWithCache("ranked " + maxResults + " " + sortedKeywords, () -> {
+                List<Question> highestScoringQuestions = new ArrayList<>();
+                for (int questionId : descriptionWords.searchRanked(keywords, maxResults)) {
+                    highestScoringQuestions.add(getQuestionById(questionId));
+                }
+                return highestScoringQuestions;
+            });
+            for (Question question : rankedQuestions) {
+                printQuestion(question, true);
+            }
+            if (rankedQuestions.isEmpty()) {
+                Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
+            }
+        });
+    }
+
+    /**
+     * Sorts questions of the current question list by their position in the list.
+     *
+     * @param questions Questions of the current question list, which are sorted in place.
+     * @return the questions in list order
+     */
+    private List<Question> sortByListOrder(List<Question> questions) {
+        questions.sort(Comparator.comparingInt(this::getQuestionSlot));
+        return questions;
+    }
+
+    /**
+     * Returns the questions of the current question list with the given question IDs.
+     *
+     * @param questionIds IDs of questions in the current question list.
+     * @return the questions in list order
+     */
+    private List<Question> getQuestionsByIds(int[] questionIds) {
+        List<Question> questions = new ArrayList<>(questionIds.length);
+        for (int questionId : questionIds) {
+            questions.add(getQuestionById(questionId));
+        }
+        return sortByListOrder(questions);
+    }
+
+    /**
+     * Returns the questions of the current question list whose question IDs are set in a bitmap.
+     * Used with the bitmaps returned by the getQuestionIds methods, which can be combined
+     * with BitSet#and and BitSet#or to filter questions.
+     *
+     * @param questionIds Bitmap of the IDs of the questions to be returned.
+     * @return the questions in list order
+     */
+    public ArrayList<Question> getQuestionsByIds(BitSet questionIds) {
+        return callShared(() -> {
+            ArrayList<Question> questions = new ArrayList<>(questionIds.cardinality());
+            for (int questionId = questionIds.nextSetBit(0); questionId >= 0;
+                    questionId = questionIds.nextSetBit(questionId + 1)) {
+                if (listedQuestions.get(questionId)) {
+                    questions.add(getQuestionById(questionId));
+                }
+            }
+            sortByListOrder(questions);
+            return questions;
+        });
+    }
+
+    /**
+     * Returns a bitmap of the IDs of all questions in the current question list.
+     */
+    public BitSet getQuestionIds() {
+        return callShared(() -> (BitSet) listedQuestions.clone());
+    }
+
+    /**
+     * Returns a bitmap of the IDs of the questions of a type.
+     *
+     * @param qnType The type of questions.
+     */
+    public BitSet getQuestionIdsByType(Question.QnType qnType) {
+        return callShared(() -> (BitSet) questionsByType.get(qnType).clone());
+    }
+
+    /**
+     * Returns a bitmap of the IDs of the questions of a difficulty.
+     *
+     * @param qnDifficulty The difficulty of questions.
+     */
+    public BitSet getQuestionIdsByDifficulty(Question.QnDifficulty qnDifficulty) {
+        return callShared(() -> (BitSet) questionsByDifficulty.get(qnDifficulty).clone());
+    }
+
+    /**
+     * Returns a bitmap of the IDs of the questions that are done, or of those that are not done.
+     *
+     * @param isDone If true, returns the done questions. Otherwise, returns the questions not done.
+     */
+    public BitSet getQuestionIdsByDoneStatus(boolean isDone) {
+        return callShared(() -> {
+            if (isDone) {
+                return (BitSet) doneQuestions.clone();
+            }
+            BitSet undoneQuestions = (BitSet) listedQuestions.clone();
+            undoneQuestions.andNot(doneQuestions);
+            return undoneQuestions;
+        });
+    }
+
+    /**
+     * Search for questions in the current question list using their module.
+     *
+     * @param module Module used to search for matches.
+     */
+    public void searchListByModule(String module){
+        runShared(() -> {
+            if(getQuestionListSize() == 0){
+                Ui.displayMessageStatically(EMPTY_LIST_MSG);
+            } else {
+                Ui.displayMessageStatically(SEARCH_RESULT_MSG);
+                List<Question> matchedQuestions = searchWithCache("module " + module.toLowerCase(),
+                        () -> getQuestionsByIds(isModulePrefix(module)
+                                ? moduleIndex.searchByPrefix(getModulePrefix(module))
+                                : moduleIndex.searchBySubstring(module)));
+                for (Question question : matchedQuestions) {
+                    printQuestion(question, true);
+                }
+                if(matchedQuestions.isEmpty()){
+                    Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
+                    List<String> suggestedModules = suggestModules(getModulePrefix(module));
+                    if (!suggestedModules.isEmpty()) {
+                        Ui.displayMessageStatically(MODULE_SUGGESTIONS_MSG + String.join(", ", suggestedModules));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Prints the number of questions in the current question list in total, by type, by difficulty
+     * and by module, and how many of them are done.
+     * The counts are kept up to date on every change, so no question is looked at.
+     */
+    public void printStatistics(){
+        runShared(() -> {
+            int numQuestions = statistics.getNumQuestions();
+            if (numQuestions == 0) {
+                Ui.displayMessageStatically(EMPTY_LIST_MSG);
+                return;
+            }
+            int numDoneQuestions = statistics.getNumDoneQuestions();
+            Ui.displayMessageStatically(STATISTICS_MSG);
+            Ui.displayMessageStatically("    Questions: " + numQuestions + ", of which " + numDoneQuestions
+                    + " done (" + numDoneQuestions * 100 / numQuestions + "%)");
+            Ui.displayMessageStatically("    By type: short answer "
+                    + statistics.getNumQuestions(Question.QnType.SHORTANSWER) + ", multiple choice "
+                    + statistics.getNumQuestions(Question.QnType.MULTIPLECHOICE));
+            Ui.displayMessageStatically("    By difficulty: easy "
+                    + statistics.getNumQuestions(Question.QnDifficulty.EASY)
+                    + ", normal " + statistics.getNumQuestions(Question.QnDifficulty.NORMAL)
+                    + ", hard " + statistics.getNumQuestions(Question.QnDifficulty.HARD));
+            List<String> moduleCounts = new ArrayList<>();
+            for (Map.Entry<String, Integer> moduleCount : moduleIndex.getModuleCounts().entrySet()) {
+                moduleCounts.add(moduleCount.getKey() + " " + moduleCount.getValue());
+            }
+            Ui.displayMessageStatically("    By module: " + String.join(", ", moduleCounts));
+            Ui.displayMessageStatically("    Searches answered from cache: " + queryCache.getHits()
+                    + " of " + (queryCache.getHits() + queryCache.getMisses()));
+        });
+    }
+
+    public QuestionStatistics getStatistics(){
+        return callShared(() -> new QuestionStatistics(statistics));
+    }
+
+    /**
+     * Suggests modules of the current question list that complete a partly typed module,
+     * or that share the longest possible prefix with a mistyped module, ignoring case.
+     *
+     * @param module The module or partial module typed.
+     * @return at most MAX_MODULE_SUGGESTIONS modules in alphabetical order
+     */
+    public List<String> suggestModules(String module){
+        return callShared(() -> moduleIndex.suggestModules(module, MAX_MODULE_SUGGESTIONS));
+    }
 
-    public void startQuiz(Ui ui, ArrayList<Question> questions) {
+    /**
+     * Checks if a module ends with the prefix wildcard, with no other regular expression characters,
+     * so that it stands for every module starting with the rest of it.
+     *
+     * @param module The module to be checked.
+     */
+    static boolean isModulePrefix(String module){
+        return module.endsWith(MODULE_PREFIX_WILDCARD)
+                && !REGEX_METACHARACTERS.matcher(getModulePrefix(module)).find();
+    }
+
+    /**
+     * Returns a module without its trailing prefix wildcard, if any.
+     */
+    static String getModulePrefix(String module){
+        if (module.endsWith(MODULE_PREFIX_WILDCARD)) {
+            return module.substring(0, module.length() - MODULE_PREFIX_WILDCARD.length());
+        }
+        return module;
+    }
+
+    /**
+     * Finds the questions in the current question list whose field indexed by a trigram index
+     * contains a keyword, ignoring case.
+     * Keywords too short to be looked up in the index are checked against every question instead.
+     *
+     * @param trigramIndex Trigram index of the field to be searched.
+     * @param keyword The keyword to search for.
+     * @return the matching questions in list order
+     */
+    private List<Question> searchBySubstring(TrigramIndex trigramIndex, String keyword) {
+        if (trigramIndex.isSearchable(keyword)) {
+            return sortByListOrder(trigramIndex.search(keyword, this::getQuestionById));
+        }
+        List<Question> matchedQuestions = new ArrayList<>();
+        for (Question question : getListedQuestions()) {
+            if (trigramIndex.matches(question, keyword)) {
+                matchedQuestions.add(question);
+            }
+        }
+        return matchedQuestions;
+    }
+
+    /**
+     * Search for questions in the current question list satisfying every condition of a query.
+     *
+     * @param query Query with the conditions used to search for matches.
+     */
+    public void searchListByQuery(QuestionQuery query){
+        runShared(() -> {
+            if(getQuestionListSize() == 0) {
+                Ui.displayMessageStatically(EMPTY_LIST_MSG);
+                return;
+            }
+            Ui.displayMessageStatically(SEARCH_RESULT_MSG);
+            List<Question> matchedQuestions = searchByQuery(query);
+            for (Question question : matchedQuestions) {
+                printQuestion(question, true);
+            }
+            if (matchedQuestions.isEmpty()) {
+                Ui.displayMessageStatically(NO_SEARCH_RESULTS_MSG);
+            }
+        });
+    }
+
+    /**
+     * Finds the questions in the current question list satisfying every condition of a query.
+     * The number of questions matching each condition is estimated from the indexes, and only
+     * the candidates of the most selective condition are looked up through its index.
+     * The other conditions are then checked on those candidates alone.
+     * If no condition is estimated to match fewer questions than the whole list, every question is checked.
+     *
+     * @param query Query with the conditions used to search for matches.
+     * @return a new list of the matching questions in list order
+     */
+    public ArrayList<Question> searchByQuery(QuestionQuery query){
+        return callShared(() -> searchWithCache("query " + query, () -> planQuery(query)));
+    }
+
+    private List<Question> planQuery(QuestionQuery query){
+        QueryCondition plannedCondition = null;
+        int plannedMatches = getQuestionListSize();
+        for (QueryCondition condition : query.getConditions()) {
+            int estimatedMatches = estimateMatches(condition);
+            if (estimatedMatches < plannedMatches) {
+                plannedCondition = condition;
+                plannedMatches = estimatedMatches;
+            }
+        }
+        List<Question> candidates = plannedCondition == null ? getListedQuestions() : getCandidates(plannedCondition);
+        ArrayList<Question> matchedQuestions = new ArrayList<>();
+        for (Question question : candidates) {
+            if (query.matchesOtherConditions(question, plannedCondition)) {
+                matchedQuestions.add(question);
+            }
+        }
+        return matchedQuestions;
+    }
+
+    /**
+     * Returns the result of a search from the query cache if the search was made since the last change
+     * to the question list, or otherwise runs the search and caches its result.
+     *
+     * @param search The normalised search, used to look up the cache.
+     * @param runSearch Function running the search on the current question list.
+     * @return a new list of the matching questions, in the order the search returns them
+     */
+    private ArrayList<Question> searchWithCache(String search, Supplier<List<Question>> runSearch){
+        int[] cachedIds = queryCache.get(search, version);
+        if (cachedIds != null) {
+            ArrayList<Question> cachedQuestions = new ArrayList<>(cachedIds.length);
+            for (int questionId : cachedIds) {
+                cachedQuestions.add(getQuestionById(questionId));
+            }
+            return cachedQuestions;
+        }
+        List<Question> matchedQuestions = runSearch.get();
+        int[] matchedIds = new int[matchedQuestions.size()];
+        for (int i = 0; i < matchedIds.length; i++) {
+            matchedIds[i] = matchedQuestions.get(i).getQuestionId();
+        }
+        queryCache.put(search, version, matchedIds);
+        return new ArrayList<>(matchedQuestions);
+    }
+
+    /**
+     * Returns the MinHash index of question descriptions, building it from the current question list
+     * on first use so that loading questions does not pay for signatures that may never be needed.
+     * Once built, the index is kept up to date on every add, delete and edit.
+     * As the index may be built, it is only used while the question list is locked exclusively.
+     */
+    private MinHashIndex getDescriptionSignatures(){
+        if (descriptionSignatures == null) {
+            descriptionSignatures = new MinHashIndex();
+            for (Question question : getListedQuestions()) {
+                descriptionSignatures.add(question);
+            }
+        }
+        return descriptionSignatures;
+    }
+
+    /**
+     * Finds the groups of questions in the current question list whose descriptions look alike,
+     * even if they differ in wording, spacing or case.
+     *
+     * @return the groups of near-duplicate questions, each in list order, ordered by their first question
+     */
+    public ArrayList<ArrayList<Question>> findNearDuplicates(){
+        return callExclusively(() -> {
+            ArrayList<ArrayList<Question>> nearDuplicateGroups = new ArrayList<>();
+            for (int[] cluster : getDescriptionSignatures().findClusters()) {
+                ArrayList<Question> group = new ArrayList<>();
+                for (int questionId : cluster) {
+                    group.add(getQuestionById(questionId));
+                }
+                group.sort(Comparator.comparingInt(this::getQuestionPosition));
+                nearDuplicateGroups.add(group);
+            }
+            nearDuplicateGroups.sort(Comparator.comparingInt(group -> getQuestionPosition(group.get(0))));
+            return nearDuplicateGroups;
+        });
+    }
+
+    /**
+     * Prints the groups of near-duplicate questions in the current question list.
+     */
+    public void printNearDuplicates(){
+        runExclusively(() -> {
+            ArrayList<ArrayList<Question>> nearDuplicateGroups = findNearDuplicates();
+            if (nearDuplicateGroups.isEmpty()) {
+                Ui.displayMessageStatically(NO_NEAR_DUPLICATES_MSG);
+                return;
+            }
+            Ui.displayMessageStatically(NEAR_DUPLICATES_MSG);
+            for (int i = 0; i < nearDuplicateGroups.size(); i++) {
+                Ui.displayMessageStatically("    Group " + (i + 1) + ":");
+                printQuestions(nearDuplicateGroups.get(i), NO_NEAR_DUPLICATES_MSG);
+            }
+        });
+    }
+
+    /**
+     * Prints the questions in the current question list whose descriptions look like that of a question.
+     * Nothing is printed if there are none.
+     *
+     * @param question The question to compare with.
+     */
+    private void printSimilarQuestions(Question question){
+        int[] similarIds = getDescriptionSignatures().findSimilar(question);
+        if (similarIds.length == 0) {
+            return;
+        }
+        ArrayList<Question> similarQuestions = new ArrayList<>();
+        for (int questionId : similarIds) {
+            similarQuestions.add(getQuestionById(questionId));
+        }
+        similarQuestions.sort(Comparator.comparingInt(this::getQuestionPosition));
+        Ui.displayMessageStatically(SIMILAR_QN_WARNING_MSG);
+        printQuestions(similarQuestions, NO_NEAR_DUPLICATES_MSG);
+    }
+
+    /**
+     * Sets whether adding a question warns about existing questions that look like it.
+     * The question is added either way.
+     *
+     * @param checksNearDuplicatesOnAdd If true, added questions are checked for near-duplicates.
+     */
+    public void setNearDuplicateCheck(boolean checksNearDuplicatesOnAdd){
+        runExclusively(() -> {
+            this.checksNearDuplicatesOnAdd = checksNearDuplicatesOnAdd;
+        });
+    }
+
+    public boolean getNearDuplicateCheck(){
+        return callShared(() -> checksNearDuplicatesOnAdd);
+    }
+
+    /**
+     * Returns the log of recent changes made to the question list by commands, used to undo and redo them.
+     * The log is not locked by itself, so it should only be used within runExclusively.
+     */
+    public ChangeHistory getChangeHistory(){
+        return changeHistory;
+    }
+
+    /**
+     * Returns the number of searches answered from the query cache.
+     */
+    public int getQueryCacheHits(){
+        return callShared(() -> queryCache.getHits());
+    }
+
+    /**
+     * Returns the number of searches that had to be run as they were not in the query cache.
+     */
+    public int getQueryCacheMisses(){
+        return callShared(() -> queryCache.getMisses());
+    }
+
+    /**
+     * Estimates the number of questions matching a query condition from the indexes,
+     * without looking up the questions themselves.
+     *
+     * @param condition The condition to estimate for.
+     * @return an upper bound on the number of matching questions
+     */
+    private int estimateMatches(QueryCondition condition){
+        int estimatedMatches = 0;
+        switch (condition.getField()) {
+        case MODULE:
+            for (String module : condition.getModules()) {
+                estimatedMatches += countModuleQuestions(module);
+            }
+            return estimatedMatches;
+        case DIFFICULTY:
+            for (Question.QnDifficulty qnDifficulty : condition.getQnDifficulties()) {
+                estimatedMatches += questionsByDifficulty.get(qnDifficulty).cardinality();
+            }
+            return estimatedMatches;
+        case TYPE:
+            for (Question.QnType qnType : condition.getQnTypes()) {
+                estimatedMatches += questionsByType.get(qnType).cardinality();
+            }
+            return estimatedMatches;
+        case DONE:
+            int numDone = doneQuestions.cardinality();
+            return condition.getDoneStatus() ? numDone : getQuestionListSize() - numDone;
+        case TEXT:
+            if (descriptionTrigrams.isSearchable(condition.getText())) {
+                return descriptionTrigrams.estimateMatches(condition.getText());
+            }
+            return getQuestionListSize();
+        default:
+            return getQuestionListSize();
+        }
+    }
+
+    /**
+     * Looks up the questions matching a query condition through its index.
+     *
+     * @param condition The condition to look up.
+     * @return the matching questions in list order
+     */
+    private List<Question> getCandidates(QueryCondition condition){
+        if (condition.getField() == QueryCondition.Field.TEXT) {
+            return searchBySubstring(descriptionTrigrams, condition.getText());
+        }
+        BitSet candidateIds = new BitSet();
+        switch (condition.getField()) {
+        case MODULE:
+            for (String module : condition.getModules()) {
+                for (int questionId : getModuleQuestionIds(module)) {
+                    candidateIds.set(questionId);
+                }
+            }
+            break;
+        case DIFFICULTY:
+            for (Question.QnDifficulty qnDifficulty : condition.getQnDifficulties()) {
+                candidateIds.or(questionsByDifficulty.get(qnDifficulty));
+            }
+            break;
+        case TYPE:
+            for (Question.QnType qnType : condition.getQnTypes()) {
+                candidateIds.or(questionsByType.get(qnType));
+            }
+            break;
+        case DONE:
+            candidateIds.or(getQuestionIdsByDoneStatus(condition.getDoneStatus()));
+            break;
+        default:
+            candidateIds.or(listedQuestions);
+        }
+        return getQuestionsByIds(candidateIds);
+    }
+
+    /**
+     * Returns the IDs of the questions belonging to a module, ignoring case.
+     * A module ending with the prefix wildcard is looked up by prefix in the module trie, and any other module
+     * containing regular expression characters is matched as a pattern against whole module names.
+     *
+     * @param module The module to look up.
+     */
+    private int[] getModuleQuestionIds(String module){
+        if (isModulePrefix(module)) {
+            return moduleIndex.searchByPrefix(getModulePrefix(module));
+        }
+        if (REGEX_METACHARACTERS.matcher(module).find()) {
+            return moduleIndex.searchByPattern(Pattern.compile(module.toLowerCase()));
+        }
+        return moduleIndex.getQuestions(module);
+    }
+
+    private int countModuleQuestions(String module){
+        if (isModulePrefix(module)) {
+            return moduleIndex.countQuestionsByPrefix(getModulePrefix(module));
+        }
+        if (REGEX_METACHARACTERS.matcher(module).find()) {
+            return getModuleQuestionIds(module).length;
+        }
+        return moduleIndex.countQuestions(module);
+    }
+
+    /**
+     * Build a new list of questions based on a list of specified modules.
+     *
+     * @param modules Modules used to search for matches.
+     * @return array list of questions by module
+     */
+    public ArrayList<Question> assembleListByModules(String[] modules) throws QuizHubExceptions{
+        lock.readLock().lock();
+        try {
+            ArrayList<Question> matchedQuestions = new ArrayList<>();
+            if (getQuestionListSize() == 0) {
+                throw new QuizHubExceptions(EMPTY_LIST_MSG);
+            }
+            for (String module : modules) {
+                assembleListByModule(module, matchedQuestions);
+            }
+            return matchedQuestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    /**
+     * Build a new list of questions based on a specified module.
+     * The module may be a regular expression, which is compiled once and matched against
+     * each distinct module rather than each question.
+     *
+     * @param module The module used to search for matches.
+     * @param matchedQuestions Question list to append matching questions to.
+     */
+    public void assembleListByModule(String module, ArrayList<Question> matchedQuestions){
+        runShared(() -> {
+            matchedQuestions.addAll(getQuestionsByIds(getModuleQuestionIds(module)));
+        });
+    }
+    /**
+     * Returns the size of current question list.
+     */
+    public int getQuestionListSize(){
+        return callShared(() -> allQns.size() - numTombstones);
+    }
+    /**
+     * Returns a list of all questions in the current question list.
+     * If the question list is locked exclusively by the caller, such as to save it after a command,
+     * any tombstones are compacted first, so saving the question list also compacts it in memory.
+     * The list is then the current vector of questions, which later changes to the question list never change,
+     * so it can be gone through, such as to save it, while the question list changes, without being copied.
+     * Otherwise, any tombstones are skipped in a copy of the questions.
+     */
+    public List<Question> getAllQns(){
+        return callShared(this::getListedQuestions);
+    }
+    /**
+     * Shuffles the order of questions in the deck
+     */
+    public void shuffleQuestions(Ui ui) {
+        shuffleQuestions(ui, new Random().nextLong());
+    }
+    /**
+     * Shuffles the order of questions in the deck into the order given by a random seed.
+     * The same seed always gives the same order of the same number of questions,
+     * so the shuffle can be undone knowing only the seed.
+     *
+     * @param ui User interface for interactions with user through CLI.
+     * @param seed Seed of the random order.
+     */
+    public void shuffleQuestions(Ui ui, long seed) {
+        runExclusively(() -> {
+            shuffleQuestions(seed);
+            if(getQuestionListSize() != 0){
+                ui.displayMessage(SHUFFLE_QN_MSG);
+            }
+            printQuestionList();
+        });
+    }
+    /**
+     * Shuffles the order of questions in the deck into the order given by a random seed, without printing them.
+     *
+     * @param seed Seed of the random order.
+     */
+    public void shuffleQuestions(long seed) {
+        runExclusively(() -> {
+            reorderQuestions(getShuffledOrder(seed), false);
+        });
+    }
+    /**
+     * Returns the questions to the order they had before they were shuffled with a random seed.
+     *
+     * @param seed Seed of the random order the questions were shuffled into.
+     */
+    public void unshuffleQuestions(long seed) {
+        runExclusively(() -> {
+            reorderQuestions(getShuffledOrder(seed), true);
+        });
+    }
+    /**
+     * Returns a random order of the list indexes (0-based) of the questions, made from a seed
+     * by the Fisher-Yates shuffle.
+     */
+    private int[] getShuffledOrder(long seed) {
+        int[] order = new int[getQuestionListSize()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swapped = order[i];
+            order[i] = order[j];
+            order[j] = swapped;
+        }
+        return order;
+    }
+    /**
+     * Moves the questions into a new order, replacing the vector of questions in one pass.
+     *
+     * @param order The list index (0-based) before the move of the question moved to each list index.
+     * @param isReversed If true, the move is reversed, so order gives the list index after the move
+     *                   of the question moved from each list index.
+     */
+    private void reorderQuestions(int[] order, boolean isReversed) {
+        List<Question> previousOrder = getListedQuestions();
+        Question[] newOrder = new Question[order.length];
+        for (int i = 0; i < order.length; i++) {
+            if (isReversed) {
+                newOrder[order[i]] = previousOrder.get(i);
+            } else {
+                newOrder[i] = previousOrder.get(order[i]);
+            }
+        }
+        allQns = PersistentVector.copyOf(Arrays.asList(newOrder));
+        updatePositions(0);
+        version++;
+    }
+    /**
+     * Retrieves the question by its index in the question list.
+     *
+     * @param index The index of the question in the list.
+     * @return The question, or null if the index is invalid or the question is of a different type.
+     */
+    public Question getQuestionByIndex(int index) {
+        return callShared(() -> {
+            if (index > 0 && index <= getQuestionListSize()) {
+                return getQuestionAt(index); // Use the toString() method to get the text of the question
+            }
+            return null; // Handle invalid index
+        });
+    }
+
+    /**
+     * Starts a quiz session using the provided user interface (UI).
+     * The quiz goes through the given questions without holding any lock, so the question list can be changed
+     * while the quiz waits for answers. The questions are not copied, so they must be either a vector of questions
+     * from {@link #getAllQns()}, which never changes, or a list of the caller's own.
+     *
+     * @param ui The user interface to interact with the user.
+     * @param questions The questions to be asked, in order.
+     */
+    public void startQuiz(Ui ui, List<Question> questions) {
         if (questions.isEmpty()) {
             ui.displayMessage(CommandStart.NO_QN_FOUND_MSG);
             return;
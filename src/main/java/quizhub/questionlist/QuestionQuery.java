@@ -0,0 +1,59 @@
+package quizhub.questionlist;
+
+import quizhub.question.Question;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a query for the questions satisfying all of a number of conditions.
+ * A query without conditions matches every question.
+ */
+public class QuestionQuery {
+    private final List<QueryCondition> conditions;
+
+    /**
+     * Creates a new query for the questions satisfying all of the given conditions.
+     *
+     * @param conditions The conditions of the query.
+     */
+    public QuestionQuery(List<QueryCondition> conditions) {
+        this.conditions = new ArrayList<>(conditions);
+    }
+
+    public List<QueryCondition> getConditions() {
+        return Collections.unmodifiableList(conditions);
+    }
+
+    /**
+     * Checks if a question satisfies every condition of the query except one.
+     * Used to verify the questions found through the index of the skipped condition.
+     *
+     * @param question The question to be checked.
+     * @param skippedCondition The condition already known to be satisfied, or null to check every condition.
+     * @return true if the question satisfies all of the other conditions
+     */
+    public boolean matchesOtherConditions(Question question, QueryCondition skippedCondition) {
+        for (QueryCondition condition : conditions) {
+            if (condition != skippedCondition && !condition.matches(question)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the query in a normalised form, where queries differing only by the case or order
+     * of their conditions and values are the same.
+     */
+    @Override
+    public String toString() {
+        List<String> normalisedConditions = new ArrayList<>();
+        for (QueryCondition condition : conditions) {
+            normalisedConditions.add(condition.toString());
+        }
+        Collections.sort(normalisedConditions);
+        return String.join(" ", normalisedConditions);
+    }
+}
@@ -0,0 +1,108 @@
+package quizhub.questionlist;
+
+import quizhub.question.Question;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Represents running counts of the questions in the question list, in total, by type, by difficulty
+ * and by done status.
+ * The counts are updated in constant time on every change to the question list,
+ * so they can be reported without going through the questions.
+ */
+public class QuestionStatistics {
+    private int numQuestions;
+    private int numDoneQuestions;
+    private final Map<Question.QnType, Integer> questionsByType;
+    private final Map<Question.QnDifficulty, Integer> questionsByDifficulty;
+
+    /**
+     * Creates new statistics of an empty question list.
+     */
+    public QuestionStatistics() {
+        numQuestions = 0;
+        numDoneQuestions = 0;
+        questionsByType = new EnumMap<>(Question.QnType.class);
+        for (Question.QnType qnType : Question.QnType.values()) {
+            questionsByType.put(qnType, 0);
+        }
+        questionsByDifficulty = new EnumMap<>(Question.QnDifficulty.class);
+        for (Question.QnDifficulty qnDifficulty : Question.QnDifficulty.values()) {
+            questionsByDifficulty.put(qnDifficulty, 0);
+        }
+    }
+
+    /**
+     * Creates a copy of the statistics of a question list, which does not change with the question list.
+     *
+     * @param statistics The statistics to be copied.
+     */
+    public QuestionStatistics(QuestionStatistics statistics) {
+        numQuestions = statistics.numQuestions;
+        numDoneQuestions = statistics.numDoneQuestions;
+        questionsByType = new EnumMap<>(statistics.questionsByType);
+        questionsByDifficulty = new EnumMap<>(statistics.questionsByDifficulty);
+    }
+
+    /**
+     * Counts a question added to the question list.
+     *
+     * @param question The question that was added.
+     */
+    public void add(Question question) {
+        update(question, 1);
+    }
+
+    /**
+     * Stops counting a question removed from the question list.
+     *
+     * @param question The question that is removed.
+     */
+    public void remove(Question question) {
+        update(question, -1);
+    }
+
+    private void update(Question question, int change) {
+        numQuestions += change;
+        if (question.questionIsDone()) {
+            numDoneQuestions += change;
+        }
+        questionsByType.merge(question.getQuestionType(), change, Integer::sum);
+        questionsByDifficulty.merge(question.getDifficulty(), change, Integer::sum);
+    }
+
+    /**
+     * Counts a question in the question list that was marked as done.
+     */
+    public void markDone() {
+        numDoneQuestions++;
+    }
+
+    /**
+     * Moves a question in the question list from one difficulty to another.
+     *
+     * @param oldDifficulty The difficulty of the question before it was marked.
+     * @param newDifficulty The difficulty of the question after it was marked.
+     */
+    public void changeDifficulty(Question.QnDifficulty oldDifficulty, Question.QnDifficulty newDifficulty) {
+        questionsByDifficulty.merge(oldDifficulty, -1, Integer::sum);
+        questionsByDifficulty.merge(newDifficulty, 1, Integer::sum);
+    }
+
+    public int getNumQuestions() {
+        return numQuestions;
+    }
+
+    public int getNumDoneQuestions() {
+        return numDoneQuestions;
+    }
+
+    public int getNumQuestions(Question.QnType qnType) {
+        return questionsByType.get(qnType);
+    }
+
+    public int getNumQuestions(Question.QnDifficulty qnDifficulty) {
+        return questionsByDifficulty.get(qnDifficulty);
+    }
+}
@@ -0,0 +1,148 @@
+package quizhub.questionlist;
+
+import quizhub.question.Question;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Represents an index from every three-character sequence (trigram) in one text field of the questions
+ * to the IDs of the questions containing it, used to speed up case-insensitive substring searches.
+ * Any question containing a keyword must contain every trigram of the keyword, so intersecting
+ * the questions of those trigrams narrows down the questions that need to be checked.
+ */
+public class TrigramIndex {
+    public static final int TRIGRAM_LENGTH = 3;
+    private final Function<Question, String> indexedField;
+    private final Map<String, PostingList> postingLists;
+
+    /**
+     * Creates a new empty trigram index over one text field of the questions.
+     *
+     * @param indexedField Function returning the text field of a question to be indexed.
+     */
+    public TrigramIndex(Function<Question, String> indexedField) {
+        this.indexedField = indexedField;
+        postingLists = new HashMap<>();
+    }
+
+    /**
+     * Returns the distinct trigrams of a piece of text, ignoring case.
+     *
+     * @param text The text to be split.
+     * @return the trigrams of the text
+     */
+    private static Set<String> extractTrigrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Adds every trigram in the indexed field of a question to the index.
+     *
+     * @param question The question that was added to the question list.
+     */
+    public void add(Question question) {
+        for (String trigram : extractTrigrams(indexedField.apply(question))) {
+            postingLists.computeIfAbsent(trigram, key -> new PostingList()).add(question.getQuestionId());
+        }
+    }
+
+    /**
+     * Removes every trigram in the indexed field of a question from the index.
+     *
+     * @param question The question that is removed from the question list.
+     */
+    public void remove(Question question) {
+        for (String trigram : extractTrigrams(indexedField.apply(question))) {
+            PostingList postingList = postingLists.get(trigram);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(question.getQuestionId());
+            if (postingList.isEmpty()) {
+                postingLists.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Checks if the index can narrow down the questions containing a keyword.
+     * Keywords shorter than a trigram have no trigrams, so every question has to be checked.
+     *
+     * @param keyword The keyword to search for.
+     * @return true if the keyword is at least as long as a trigram
+     */
+    public boolean isSearchable(String keyword) {
+        return keyword.length() >= TRIGRAM_LENGTH;
+    }
+
+    /**
+     * Estimates the number of questions whose indexed field contains a keyword, ignoring case.
+     * No question can match more often than the rarest trigram of the keyword appears.
+     *
+     * @param keyword The keyword to search for, which must be searchable.
+     * @return the number of questions containing the rarest trigram of the keyword
+     */
+    public int estimateMatches(String keyword) {
+        assert isSearchable(keyword) : "Keyword is too short to be searched by trigrams";
+        int estimatedMatches = Integer.MAX_VALUE;
+        for (String trigram : extractTrigrams(keyword)) {
+            PostingList postingList = postingLists.get(trigram);
+            if (postingList == null) {
+                return 0;
+            }
+            estimatedMatches = Math.min(estimatedMatches, postingList.size());
+        }
+        return estimatedMatches;
+    }
+
+    /**
+     * Checks if the indexed field of a question contains a keyword, ignoring case.
+     *
+     * @param question The question to be checked.
+     * @param keyword The keyword to search for.
+     * @return true if the keyword is a substring of the indexed field
+     */
+    public boolean matches(Question question, String keyword) {
+        return indexedField.apply(question).toLowerCase().contains(keyword.toLowerCase());
+    }
+
+    /**
+     * Finds all questions whose indexed field contains a keyword, ignoring case.
+     * Only questions containing every trigram of the keyword are checked with matches.
+     *
+     * @param keyword The keyword to search for, which must be searchable.
+     * @param questionById Function returning the question with a given question ID.
+     * @return the matching questions in no particular order
+     */
+    public List<Question> search(String keyword, IntFunction<Question> questionById) {
+        assert isSearchable(keyword) : "Keyword is too short to be searched by trigrams";
+        List<PostingList> keywordPostingLists = new ArrayList<>();
+        for (String trigram : extractTrigrams(keyword)) {
+            PostingList postingList = postingLists.get(trigram);
+            if (postingList == null) {
+                return new ArrayList<>();
+            }
+            keywordPostingLists.add(postingList);
+        }
+        List<Question> matchedQuestions = new ArrayList<>();
+        for (int questionId : PostingList.intersect(keywordPostingLists)) {
+            Question question = questionById.apply(questionId);
+            if (matches(question, keyword)) {
+                matchedQuestions.add(question);
+            }
+        }
+        return matchedQuestions;
+    }
+}
@@ -0,0 +1,243 @@
+package quizhub.questionlist;
+
+import quizhub.question.Question;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Represents an inverted index from the words in question descriptions to the IDs of the questions containing them.
+ * Words are case-insensitive runs of letters and digits.
+ * The index is kept up to date by the question list on every add, delete and description edit.
+ * Every word ever indexed is also kept in a BK-tree, so that words close to a mistyped keyword can be found.
+ * The number of times each word occurs in each description and the number of words in each description
+ * are kept as well, so that questions can be ranked by relevance with BM25.
+ */
+public class WordIndex {
+    public static final int AUTOMATIC_DISTANCE = -1;
+    private static final String WORD_SEPARATOR_REGEX = "[^\\p{L}\\p{N}]+";
+    private static final double BM25_K1 = 1.2; //how quickly repeating a word stops raising the score
+    private static final double BM25_B = 0.75; //how much longer descriptions are penalised
+    private static final int INITIAL_ID_CAPACITY = 16;
+    private final Map<String, PostingList> postingLists;
+    private final BkTree vocabulary;
+    private int[] wordCounts; //number of words in the description of each question by question ID
+    private long totalWordCount;
+    private int numQuestions;
+
+    /**
+     * Creates a new empty word index.
+     */
+    public WordIndex() {
+        postingLists = new HashMap<>();
+        vocabulary = new BkTree();
+        wordCounts = new int[INITIAL_ID_CAPACITY];
+        totalWordCount = 0;
+        numQuestions = 0;
+    }
+
+    /**
+     * Splits a piece of text into its distinct lowercase words.
+     *
+     * @param text The text to be split.
+     * @return the words in the text, in order of first appearance
+     */
+    public static List<String> extractWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase().split(WORD_SEPARATOR_REGEX)) {
+            if (!word.isEmpty() && !words.contains(word)) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Counts the number of times each lowercase word occurs in a piece of text.
+     *
+     * @param text The text to be split.
+     * @return the number of times each word occurs
+     */
+    public static Map<String, Integer> countWords(String text) {
+        Map<String, Integer> wordFrequencies = new HashMap<>();
+        for (String word : text.toLowerCase().split(WORD_SEPARATOR_REGEX)) {
+            if (!word.isEmpty()) {
+                wordFrequencies.merge(word, 1, Integer::sum);
+            }
+        }
+        return wordFrequencies;
+    }
+
+    /**
+     * Adds every word in the description of a question to the index.
+     *
+     * @param question The question that was added to the question list.
+     */
+    public void add(Question question) {
+        int questionId = question.getQuestionId();
+        int wordCount = 0;
+        for (Map.Entry<String, Integer> wordFrequency : countWords(question.getQuestionBody()).entrySet()) {
+            String word = wordFrequency.getKey();
+            PostingList postingList = postingLists.get(word);
+            if (postingList == null) {
+                postingList = new PostingList(true);
+                postingLists.put(word, postingList);
+                vocabulary.add(word);
+            }
+            postingList.add(questionId, wordFrequency.getValue());
+            wordCount += wordFrequency.getValue();
+        }
+        if (questionId >= wordCounts.length) {
+            wordCounts = Arrays.copyOf(wordCounts, Math.max(wordCounts.length * 2, questionId + 1));
+        }
+        wordCounts[questionId] = wordCount;
+        totalWordCount += wordCount;
+        numQuestions++;
+    }
+
+    /**
+     * Removes every word in the description of a question from the index.
+     *
+     * @param question The question that is removed from the question list.
+     */
+    public void remove(Question question) {
+        for (String word : extractWords(question.getQuestionBody())) {
+            PostingList postingList = postingLists.get(word);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(question.getQuestionId());
+            if (postingList.isEmpty()) {
+                postingLists.remove(word);
+            }
+        }
+        totalWordCount -= wordCounts[question.getQuestionId()];
+        numQuestions--;
+    }
+
+    /**
+     * Finds all questions whose description contains every word of the keywords.
+     * The posting lists of the keywords are intersected starting from the shortest one,
+     * so the cost depends on the number of matching questions rather than the size of the question list.
+     *
+     * @param keywords The keywords to search for.
+     * @return the IDs of the matching questions in ascending order
+     */
+    public int[] search(String keywords) {
+        List<PostingList> keywordPostingLists = new ArrayList<>();
+        for (String word : extractWords(keywords)) {
+            PostingList postingList = postingLists.get(word);
+            if (postingList == null) {
+                return new int[0];
+            }
+            keywordPostingLists.add(postingList);
+        }
+        return PostingList.intersect(keywordPostingLists);
+    }
+
+    /**
+     * Finds all questions whose description contains, for every word of the keywords,
+     * a word within an edit distance of it. Words that are no longer in any question
+     * remain in the BK-tree but have no questions.
+     *
+     * @param keywords The keywords to search for, which may be mistyped.
+     * @param maxDistance The largest Levenshtein distance between a keyword and a matching word,
+     *                    or AUTOMATIC_DISTANCE to allow more typos in longer keywords.
+     * @return bitmap of the IDs of the matching questions
+     */
+    public BitSet searchFuzzy(String keywords, int maxDistance) {
+        BitSet matchedIds = null;
+        for (String keyword : extractWords(keywords)) {
+            int keywordDistance = maxDistance == AUTOMATIC_DISTANCE ? getAutomaticDistance(keyword) : maxDistance;
+            BitSet keywordIds = new BitSet();
+            for (String word : vocabulary.search(keyword, keywordDistance)) {
+                PostingList postingList = postingLists.get(word);
+                if (postingList != null) {
+                    postingList.setBits(keywordIds);
+                }
+            }
+            if (matchedIds == null) {
+                matchedIds = keywordIds;
+            } else {
+                matchedIds.and(keywordIds);
+            }
+        }
+        return matchedIds == null ? new BitSet() : matchedIds;
+    }
+
+    /**
+     * Ranks the questions containing any word of the keywords by their BM25 score and returns the best of them.
+     * Words found in fewer questions count for more, and so do words occurring more often in a question,
+     * with diminishing returns and relative to the length of its description.
+     * Only the best questions are kept in a bounded heap while scoring, rather than sorting every match.
+     *
+     * @param keywords The keywords to search for.
+     * @param maxResults The largest number of questions returned.
+     * @return the IDs of the highest scoring questions, from the highest score down
+     */
+    public int[] searchRanked(String keywords, int maxResults) {
+        Map<Integer, Double> scores = new HashMap<>();
+        double averageWordCount = numQuestions == 0 ? 0 : (double) totalWordCount / numQuestions;
+        for (String word : extractWords(keywords)) {
+            PostingList postingList = postingLists.get(word);
+            if (postingList == null) {
+                continue;
+            }
+            double inverseFrequency = Math.log(1 + (numQuestions - postingList.size() + 0.5)
+                    / (postingList.size() + 0.5));
+            postingList.forEach((questionId, frequency) -> {
+                double lengthRatio = wordCounts[questionId] / averageWordCount;
+                double wordScore = inverseFrequency * frequency * (BM25_K1 + 1)
+                        / (frequency + BM25_K1 * (1 - BM25_B + BM25_B * lengthRatio));
+                scores.merge(questionId, wordScore, Double::sum);
+            });
+        }
+        return selectHighestScores(scores, maxResults);
+    }
+
+    /**
+     * Returns the IDs of the questions with the highest scores, keeping at most maxResults questions
+     * in a heap whose head is the lowest score kept. Ties go to the question added earlier.
+     */
+    private static int[] selectHighestScores(Map<Integer, Double> scores, int maxResults) {
+        Comparator<Map.Entry<Integer, Double>> scoreOrder = Map.Entry.comparingByValue();
+        Comparator<Map.Entry<Integer, Double>> lowestFirst = scoreOrder.thenComparing(
+                Map.Entry.comparingByKey(Comparator.reverseOrder()));
+        PriorityQueue<Map.Entry<Integer, Double>> highestScores = new PriorityQueue<>(lowestFirst);
+        for (Map.Entry<Integer, Double> score : scores.entrySet()) {
+            if (highestScores.size() < maxResults) {
+                highestScores.add(score);
+            } else if (lowestFirst.compare(score, highestScores.peek()) > 0) {
+                highestScores.poll();
+                highestScores.add(score);
+            }
+        }
+        int[] questionIds = new int[highestScores.size()];
+        for (int i = questionIds.length - 1; i >= 0; i--) {
+            questionIds[i] = highestScores.poll().getKey();
+        }
+        return questionIds;
+    }
+
+    /**
+     * Returns the number of typos allowed in a keyword of fuzzy searches without a given distance.
+     * Short keywords allow fewer typos, as otherwise they would match too many unrelated words.
+     *
+     * @param keyword The keyword to be searched for.
+     */
+    private static int getAutomaticDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+}
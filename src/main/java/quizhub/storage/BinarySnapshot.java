@@ -0,0 +1,234 @@
+package quizhub.storage;
+
+import quizhub.question.MultipleChoiceQn;
+import quizhub.question.Question;
+import quizhub.question.QuestionArena;
+import quizhub.question.ShortAnsQn;
+import quizhub.questionlist.QuestionList;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the binary format of a question file snapshot.
+ * Questions are stored column by column so that a whole column can be read in one pass:
+ * <ol>
+ *     <li>header: magic number, format version, journal generation, number of questions</li>
+ *     <li>module dictionary: number of modules, followed by each module name</li>
+ *     <li>flags column: one byte per question packing type, difficulty and done status</li>
+ *     <li>module column: one dictionary ID per question</li>
+ *     <li>description and answer columns: one string per question</li>
+ *     <li>options column: four strings per multiple choice question</li>
+ * </ol>
+ * Every string is stored as its UTF-8 length followed by its UTF-8 bytes.
+ * Snapshots of format version 1 have no journal generation, and are still read.
+ */
+public class BinarySnapshot {
+    public static final int MAGIC_NUMBER = 0x51484231; // "QHB1"
+    public static final int FORMAT_VERSION = 2;
+    public static final int FIRST_FORMAT_VERSION = 1;
+    public static final int MCQ_FLAG = 1;
+    public static final int DONE_FLAG = 1 << 4;
+    public static final int DIFFICULTY_SHIFT = 2;
+    public static final int DIFFICULTY_MASK = 0b11;
+    public static final int NUM_OPTIONS = 4;
+
+    /**
+     * Writes all questions in the question list in binary snapshot format.
+     *
+     * @param questions The questions to be written.
+     * @param generation Generation of the last journal folded into the snapshot.
+     * @param output Stream the snapshot is written to.
+     */
+    public static void write(List<Question> questions, int generation, DataOutputStream output) throws IOException {
+        Map<String, Integer> moduleIds = new LinkedHashMap<>();
+        for (Question question : questions) {
+            moduleIds.putIfAbsent(question.getModule(), moduleIds.size());
+        }
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(generation);
+        output.writeInt(questions.size());
+        output.writeInt(moduleIds.size());
+        for (String module : moduleIds.keySet()) {
+            writeString(module, output);
+        }
+        for (Question question : questions) {
+            output.writeByte(encodeFlags(question));
+        }
+        for (Question question : questions) {
+            output.writeInt(moduleIds.get(question.getModule()));
+        }
+        for (Question question : questions) {
+            writeString(question.getQuestionBody(), output);
+        }
+        for (Question question : questions) {
+            writeString(question.getQuestionAnswer(), output);
+        }
+        for (Question question : questions) {
+            if (question.getQuestionType() != Question.QnType.MULTIPLECHOICE) {
+                continue;
+            }
+            for (int option = 1; option <= NUM_OPTIONS; option++) {
+                writeString(question.getOption(option), output);
+            }
+        }
+    }
+
+    /**
+     * Reads questions stored in binary snapshot format into the question list being built.
+     * Questions duplicating an earlier question are kept, as the snapshot holds the question list as it was.
+     *
+     * @param buffer Buffer holding the whole snapshot.
+     * @param questions The question list to be built.
+     * @return Number of questions that could not be added to the question list
+     * @throws IllegalArgumentException If the buffer does not hold a complete binary snapshot.
+     */
+    public static int read(ByteBuffer buffer, QuestionList questions) throws IllegalArgumentException {
+        try {
+            if (buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalArgumentException("Unrecognised binary question file format");
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion == FORMAT_VERSION) {
+                buffer.getInt(); // journal generation, read by readGeneration
+            } else if (formatVersion != FIRST_FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unrecognised binary question file format");
+            }
+            int numQuestions = checkCount(buffer, buffer.getInt());
+            String[] modules = readStrings(buffer, buffer.getInt());
+            byte[] flags = new byte[numQuestions];
+            buffer.get(flags);
+            int[] moduleIds = new int[numQuestions];
+            buffer.asIntBuffer().get(moduleIds);
+            buffer.position(buffer.position() + Integer.BYTES * numQuestions);
+            String[] descriptions = readStrings(buffer, numQuestions);
+            String[] answers = readStrings(buffer, numQuestions);
+            List<Question> readQuestions = new ArrayList<>(numQuestions);
+            QuestionArena arena = questions.getArena();
+            for (int i = 0; i < numQuestions; i++) {
+                Question question = createQuestion(buffer, flags[i], modules[moduleIds[i]], descriptions[i],
+                        answers[i], arena);
+                if (question != null) {
+                    readQuestions.add(question);
+                }
+            }
+            int failedQuestions = numQuestions - readQuestions.size() + questions.addQuestions(readQuestions, true);
+            return failedQuestions;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException corruptedFile) {
+            throw new IllegalArgumentException("Binary question file is incomplete");
+        }
+    }
+
+    /**
+     * Returns the generation of the last journal folded into a snapshot, without moving the buffer's position.
+     *
+     * @param buffer Buffer holding the whole snapshot.
+     * @return the generation, or 0 if the snapshot has none
+     */
+    public static int readGeneration(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < 3 * Integer.BYTES || buffer.getInt(start) != MAGIC_NUMBER
+                || buffer.getInt(start + Integer.BYTES) != FORMAT_VERSION) {
+            return 0;
+        }
+        return Math.max(buffer.getInt(start + 2 * Integer.BYTES), 0);
+    }
+
+    /**
+     * Creates a single question read from the snapshot.
+     * Options of multiple choice questions are read from the options column of the buffer.
+     * The text of the question is stored in the arena of the question list being built.
+     *
+     * @return The question read, or null if the stored question is invalid
+     */
+    private static Question createQuestion(ByteBuffer buffer, byte flags, String module, String description,
+                                           String answer, QuestionArena arena) {
+        boolean isMultipleChoice = (flags & MCQ_FLAG) != 0;
+        String[] options = isMultipleChoice ? readStrings(buffer, NUM_OPTIONS) : null;
+        Question.QnDifficulty difficulty = decodeDifficulty(flags);
+        if (difficulty == Question.QnDifficulty.INVALID || description.isEmpty() || answer.isEmpty()
+                || module.isEmpty()) {
+            return null;
+        }
+        Question question;
+        if (isMultipleChoice) {
+            int answerIndex;
+            try {
+                answerIndex = Integer.parseInt(answer);
+            } catch (NumberFormatException invalidAnswer) {
+                return null;
+            }
+            if (answerIndex < 1 || answerIndex > NUM_OPTIONS) {
+                return null;
+            }
+            question = new MultipleChoiceQn(description, options[0], options[1], options[2], options[3],
+                    answerIndex, module, difficulty, arena);
+        } else {
+            question = new ShortAnsQn(description, answer, module, difficulty, arena);
+        }
+        if ((flags & DONE_FLAG) != 0) {
+            question.markAsDone();
+        }
+        return question;
+    }
+
+    private static int encodeFlags(Question question) {
+        int flags = question.getDifficulty().ordinal() << DIFFICULTY_SHIFT;
+        if (question.getQuestionType() == Question.QnType.MULTIPLECHOICE) {
+            flags |= MCQ_FLAG;
+        }
+        if (question.questionIsDone()) {
+            flags |= DONE_FLAG;
+        }
+        return flags;
+    }
+
+    private static Question.QnDifficulty decodeDifficulty(byte flags) {
+        int ordinal = (flags >> DIFFICULTY_SHIFT) & DIFFICULTY_MASK;
+        return Question.QnDifficulty.values()[ordinal];
+    }
+
+    private static void writeString(String value, DataOutputStream output) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Checks a count of items read from the snapshot before anything is allocated for them.
+     * Every question and every string takes at least the bytes of one int, so a larger count than that
+     * can only come from a damaged file.
+     *
+     * @return the count, if the rest of the buffer can hold that many items
+     * @throws BufferUnderflowException If the count is negative or too large for the rest of the buffer.
+     */
+    private static int checkCount(ByteBuffer buffer, int count) {
+        if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int count) {
+        checkCount(buffer, count);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return strings.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,152 @@
+package quizhub.storage;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the append-only log of question changes made since the last
+ * full snapshot of the question file was written.
+ * Each change is stored as one line of fields separated by vertical bars.
+ * The first line holds the generation of the journal, which is one more than the generation of the snapshot
+ * it was started after. A snapshot records the generation of the last journal folded into it,
+ * so a journal left behind by a crash just after the snapshot was written is recognised and not replayed twice.
+ */
+public class Journal {
+    public static final String ADD_RECORD = "add";
+    public static final String DELETE_RECORD = "delete";
+    public static final String EDIT_RECORD = "edit";
+    public static final String MARKDIFF_RECORD = "markdiff";
+    public static final String GENERATION_RECORD = "generation";
+    public static final int UNKNOWN_GENERATION = -1;
+    public static final String FIELD_SEPARATOR = " | ";
+    public static final String JOURNAL_EXTENSION = ".journal";
+    private final File journalFile;
+    private int recordCount;
+    private int generation; //generation written at the top of the journal when it is started
+
+    /**
+     * Creates a new journal kept next to the given question file.
+     *
+     * @param dataFilePath The file location of the question file the journal belongs to.
+     */
+    public Journal(String dataFilePath) {
+        journalFile = new File(dataFilePath + JOURNAL_EXTENSION);
+        recordCount = 0;
+        generation = 1;
+    }
+
+    /**
+     * Returns the generation of the journal, as read from the journal file or set for the next journal started.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Sets the generation written at the top of the journal file when it is next started.
+     *
+     * @param generation One more than the generation of the last snapshot written.
+     */
+    public void setGeneration(int generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the generation record starting a new journal file, or nothing if the file already exists.
+     */
+    private String getHeader() {
+        if (journalFile.exists()) {
+            return "";
+        }
+        return GENERATION_RECORD + FIELD_SEPARATOR + generation + System.lineSeparator();
+    }
+
+    /**
+     * Appends a single record to the back of the journal.
+     *
+     * @param fields Fields of the record, starting with the record type.
+     */
+    public void append(String... fields) throws IOException {
+        String record = getHeader() + String.join(FIELD_SEPARATOR, fields).strip() + System.lineSeparator();
+        try (FileWriter fileWriter = new FileWriter(journalFile, StandardCharsets.UTF_8, true)) {
+            fileWriter.write(record);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Appends several records to the back of the journal in a single write.
+     * Used to persist a batch of changes at once.
+     *
+     * @param records Fields of each record, each starting with the record type.
+     */
+    public void append(List<String[]> records) throws IOException {
+        StringBuilder recordLines = new StringBuilder(getHeader());
+        for (String[] fields : records) {
+            recordLines.append(String.join(FIELD_SEPARATOR, fields).strip()).append(System.lineSeparator());
+        }
+        try (FileWriter fileWriter = new FileWriter(journalFile, StandardCharsets.UTF_8, true)) {
+            fileWriter.write(recordLines.toString());
+        }
+        recordCount += records.size();
+    }
+
+    /**
+     * Reads all records currently stored in the journal, and the generation of the journal.
+     * A journal written without a generation record gets UNKNOWN_GENERATION.
+     *
+     * @return The records in the order they were appended, or an empty list if there is no journal.
+     */
+    public List<String> readRecords() throws IOException {
+        if (!journalFile.exists()) {
+            return new ArrayList<>();
+        }
+        List<String> records = new ArrayList<>();
+        List<String> lines = Files.readAllLines(journalFile.toPath());
+        generation = UNKNOWN_GENERATION;
+        for (int i = 0; i < lines.size(); i++) {
+            String record = lines.get(i);
+            if (i == 0 && record.startsWith(GENERATION_RECORD + FIELD_SEPARATOR)) {
+                generation = parseGeneration(record.substring(GENERATION_RECORD.length() + FIELD_SEPARATOR.length()));
+            } else if (!record.isBlank()) {
+                records.add(record);
+            }
+        }
+        recordCount = records.size();
+        return records;
+    }
+
+    /**
+     * Parses a stored generation number.
+     *
+     * @return the generation, or UNKNOWN_GENERATION if it is not a valid generation
+     */
+    static int parseGeneration(String storedGeneration) {
+        try {
+            return Math.max(Integer.parseInt(storedGeneration.strip()), UNKNOWN_GENERATION);
+        } catch (NumberFormatException invalidGeneration) {
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    /**
+     * Discards all records in the journal.
+     * Used once the changes have been folded into a new snapshot.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(journalFile.toPath());
+        recordCount = 0;
+    }
+
+    /**
+     * Returns the number of records appended since the last snapshot.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+}
@@ -0,0 +1,217 @@
+package quizhub.storage;
+
+import quizhub.parser.Parser;
+import quizhub.question.MultipleChoiceQn;
+import quizhub.question.Question;
+import quizhub.question.QuestionArena;
+import quizhub.question.ShortAnsQn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Represents the parsing of a range of lines of a text question file into questions.
+ * Ranges larger than CHUNK_SIZE bytes are split in half at a line boundary and
+ * both halves are parsed in parallel on a ForkJoinPool.
+ * The resulting list keeps questions in file order, with null for every line
+ * that could not be parsed.
+ * A range parsed whole has its questions created in the arena given to the task, such as the arena of
+ * the question list they are loaded into, so adding them moves no text.
+ * A range split in half gives each half its own arena, so that tasks parsing in parallel never wait on
+ * each other to store text, and the question list moves their questions into its arena as it adds them.
+ */
+public class QuestionParseTask extends RecursiveTask<List<Question>> {
+    public static final int CHUNK_SIZE = 256 * 1024;
+    private static final long serialVersionUID = 1L;
+    private final ByteBuffer fileBuffer;
+    private final int rangeStart;
+    private final int rangeEnd;
+    private final QuestionArena arena;
+
+    /**
+     * Creates a new task parsing the lines within the given range of the file buffer.
+     *
+     * @param fileBuffer Buffer holding the contents of the question file.
+     * @param rangeStart Position of the first byte of the first line to parse.
+     * @param rangeEnd Position after the last byte of the last line to parse.
+     * @param arena Arena the text of the parsed questions is stored in.
+     */
+    public QuestionParseTask(ByteBuffer fileBuffer, int rangeStart, int rangeEnd, QuestionArena arena) {
+        this.fileBuffer = fileBuffer;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.arena = arena;
+    }
+
+    @Override
+    protected List<Question> compute() {
+        if (rangeEnd - rangeStart <= CHUNK_SIZE) {
+            return parseLines();
+        }
+        int splitPoint = findLineEnd(fileBuffer, rangeStart + (rangeEnd - rangeStart) / 2, rangeEnd) + 1;
+        if (splitPoint >= rangeEnd) {
+            return parseLines();
+        }
+        QuestionParseTask firstHalf = new QuestionParseTask(fileBuffer, rangeStart, splitPoint, new QuestionArena());
+        QuestionParseTask secondHalf = new QuestionParseTask(fileBuffer, splitPoint, rangeEnd, new QuestionArena());
+        secondHalf.fork();
+        List<Question> parsedQuestions = firstHalf.compute();
+        parsedQuestions.addAll(secondHalf.join());
+        return parsedQuestions;
+    }
+
+    /**
+     * Parses every line within the range of this task, one line at a time.
+     */
+    private List<Question> parseLines() {
+        // each task reads through its own view so that positions are not shared between threads
+        ByteBuffer lineReader = fileBuffer.duplicate();
+        List<Question> parsedQuestions = new ArrayList<>();
+        byte[] lineBytes = new byte[0];
+        int lineStart = rangeStart;
+        while (lineStart < rangeEnd) {
+            int lineEnd = findLineEnd(fileBuffer, lineStart, rangeEnd);
+            int lineLength = lineEnd - lineStart;
+            if (lineBytes.length < lineLength) {
+                lineBytes = new byte[lineLength];
+            }
+            lineReader.position(lineStart);
+            lineReader.get(lineBytes, 0, lineLength);
+            parsedQuestions.add(parseQuestion(new String(lineBytes, 0, lineLength, StandardCharsets.UTF_8), arena));
+            lineStart = lineEnd + 1;
+        }
+        return parsedQuestions;
+    }
+
+    /**
+     * Finds the end of the line containing the given position of the file buffer.
+     *
+     * @param fileBuffer Buffer holding the contents of the question file.
+     * @param position Position of any byte of the line.
+     * @param contentEnd Position after the last byte of the content to search.
+     * @return Position of the line feed ending the line, or contentEnd for the last line
+     */
+    public static int findLineEnd(ByteBuffer fileBuffer, int position, int contentEnd) {
+        for (int i = position; i < contentEnd; i++) {
+            if (fileBuffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return contentEnd;
+    }
+
+    /**
+     * Parses a single question stored in text format.
+     *
+     * @param rawQuestion The question string in storage format.
+     * @param arena Arena the text of the parsed question is stored in.
+     * @return The parsed question, or null if the question string is invalid
+     */
+    public static Question parseQuestion(String rawQuestion, QuestionArena arena) {
+        try {
+            String[] questionSubStrings = rawQuestion.split("\\|");
+            String questionType = questionSubStrings[0].strip();
+            String questionDoneStatus = questionSubStrings[1].strip();
+            String questionDescription = questionSubStrings[2].strip();
+            String questionModule = questionSubStrings[3].strip();
+            String questionDifficulty = questionSubStrings[4].strip();
+            Question.QnDifficulty difficulty = Parser.extractQuestionDifficulty(questionDifficulty);
+            if (difficulty == Question.QnDifficulty.INVALID) {
+                return null;
+            }
+            Question question = parseQuestionByType(questionType, questionDescription, questionModule,
+                    difficulty, arena);
+            if (question != null && questionDoneStatus.equalsIgnoreCase("done")) {
+                question.markAsDone();
+            }
+            return question;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a question of the given type from its stored details.
+     *
+     * @param qnType Type of current question.
+     * @param qnDescription Description of current question.
+     * @param qnModule Module of current question.
+     * @param difficulty Difficulty of current question.
+     * @param arena Arena the text of current question is stored in.
+     *
+     * @return The parsed question, or null if the details are invalid
+     */
+    private static Question parseQuestionByType(String qnType, String qnDescription, String qnModule,
+                                                Question.QnDifficulty difficulty, QuestionArena arena) {
+        switch (qnType) {
+        case ShortAnsQn.IDENTIFIER:
+            return parseShortAns(qnDescription, qnModule, difficulty, arena);
+        case MultipleChoiceQn.IDENTIFIER:
+            return parseMCQ(qnDescription, qnModule, difficulty, arena);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Creates a Short Answer question from its stored details.
+     *
+     * @param qnDescription Description of current question.
+     * @param qnModule Module of current question.
+     * @param difficulty Difficulty of current question.
+     * @param arena Arena the text of current question is stored in.
+     *
+     * @return The parsed question, or null if the details are invalid
+     */
+    private static Question parseShortAns(String qnDescription, String qnModule, Question.QnDifficulty difficulty,
+                                          QuestionArena arena) {
+        try {
+            // Split the description by "/" and check for empty fields
+            String[] qnTokens = qnDescription.split("/");
+            if (qnTokens[0].isEmpty() || qnTokens[1].isEmpty() || qnModule.isEmpty()) {
+                return null;
+            }
+            return new ShortAnsQn(qnTokens[0].strip(), qnTokens[1].strip(), qnModule, difficulty, arena);
+        } catch (ArrayIndexOutOfBoundsException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a MCQ question from its stored details.
+     *
+     * @param qnDescription Description of current question.
+     * @param qnModule Module of current question.
+     * @param difficulty Difficulty of current question.
+     * @param arena Arena the text of current question is stored in.
+     *
+     * @return The parsed question, or null if the details are invalid
+     */
+    private static Question parseMCQ(String qnDescription, String qnModule, Question.QnDifficulty difficulty,
+                                     QuestionArena arena) {
+        try {
+            // Split the description by "/" and check for empty fields
+            String[] qnTokens = qnDescription.split("/");
+            String questionString = qnTokens[0].strip();
+            String option1 = qnTokens[1].strip();
+            String option2 = qnTokens[2].strip();
+            String option3 = qnTokens[3].strip();
+            String option4 = qnTokens[4].strip();
+            int answer = Integer.parseInt(qnTokens[5].strip());
+            if (answer < 1 || answer > 4) {
+                return null;
+            }
+            if (questionString.isEmpty() || option1.isEmpty() || option2.isEmpty() || option3.isEmpty()
+                    || option4.isEmpty() || qnModule.isEmpty()) {
+                return null;
+            }
+            return new MultipleChoiceQn(questionString, option1, option2, option3, option4, answer, qnModule,
+                    difficulty, arena);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException exception) {
+            return null;
+        }
+    }
+}
@@ -2,172 +2,274 @@ package quizhub.storage;
 import quizhub.question.Question;
 import quizhub.questionlist.QuestionList;
 import quizhub.parser.Parser;
-import quizhub.question.ShortAnsQn;
-import quizhub.question.MultipleChoiceQn;
 import quizhub.ui.Ui;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 /**
  * Represents the hard disk storage where
  * question data is stored, read and updated.
  */
 public class Storage {
+    public static final int COMPACTION_THRESHOLD = 1000;
+    public static final String FILE_HEADER = "Latest Questions";
+    public static final String TEMP_EXTENSION = ".tmp";
+    public static final String TEXT_EXTENSION = ".txt";
+    public static final String BINARY_EXTENSION = ".bin";
+    public static final long MAPPING_THRESHOLD = 16 * 1024 * 1024;
     private final File dataFile;
+    private final Journal journal;
+    private final boolean isJournaled;
+    private final boolean isBinary;
+    private int snapshotGeneration; //generation of the last journal folded into the question file
     /**
      * Creates a new storage for storing question data.
+     * Every change to the question list rewrites the whole question file.
      *
      * @param filePath The file location in hard disk where data is stored and read from.
      */
     public Storage(String filePath) {
-        dataFile = new File(filePath);
+        this(filePath, false);
     }
     /**
-     * Write in new data to storage.
+     * Creates a new storage for storing question data.
+     * Question files ending with ".bin" are stored in binary snapshot format,
+     * and all other question files are stored as text.
      *
-     * @param filePath The file location in hard disk where data is written to.
-     * @param textToAdd Data to be written.
-     * @param toAppend If true, new data is added to the back of existing data instead of overwriting them.
+     * @param filePath The file location in hard disk where data is stored and read from.
+     * @param isJournaled If true, changes are appended to a journal and the question file
+     *                    is only rewritten as a periodic snapshot.
      */
-    private void writeToFile(String filePath, String textToAdd, boolean toAppend) throws IOException {
-        FileWriter fileWriter = new FileWriter(filePath, toAppend);
-        fileWriter.write(textToAdd);
-        fileWriter.close();
+    public Storage(String filePath, boolean isJournaled) {
+        dataFile = new File(filePath);
+        journal = new Journal(filePath);
+        this.isJournaled = isJournaled;
+        isBinary = filePath.endsWith(BINARY_EXTENSION);
+        snapshotGeneration = 0;
     }
     /**
-     * Adds a question from storage into question list being built.
+     * Writes all questions in the question list into a temporary file in one pass,
+     * then moves it over the target file.
+     * The target file is therefore either the previous snapshot or the complete new one,
+     * even if the program is terminated halfway through writing.
      *
-     * @param questions The question list to be built.
-     * @param qnType Type of current question.
-     * @param qnDescription Description of current question.
-     * @param qnDoneStatus Done status of current question.
-     * @param difficulty Difficulty of current question.
-     * @param qnModule Module of current question.
+     * @param questions The question list to be written.
+     * @param targetFile The file the snapshot is written to.
+     * @param asBinary If true, the snapshot is written in binary format instead of text.
+     * @param generation Generation of the last journal folded into the snapshot, or 0 if there is none.
+     */
+    private void writeSnapshot(QuestionList questions, File targetFile, boolean asBinary, int generation)
+            throws IOException {
+        Path targetPath = targetFile.toPath();
+        Path tempPath = Path.of(targetFile.getPath() + TEMP_EXTENSION);
+        try (FileChannel fileChannel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (asBinary) {
+                DataOutputStream output = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(fileChannel)));
+                BinarySnapshot.write(questions.getAllQns(), generation, output);
+                output.flush();
+            } else {
+                BufferedWriter writer = new BufferedWriter(Channels.newWriter(fileChannel, StandardCharsets.UTF_8));
+                String header = generation > 0 ? FILE_HEADER + Journal.FIELD_SEPARATOR + generation : FILE_HEADER;
+                writer.write(header + System.lineSeparator());
+                for (Question question : questions.getAllQns()) {
+                    writer.write(question.toSerializedString());
+                }
+                writer.flush();
+            }
+            fileChannel.force(true);
+        }
+        try {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException atomicMoveNotSupported) {
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    /**
+     * Parse raw questions read from the question file and store them in the questionList
+     * Used at start of program to load all questions from the file.
+     * Lines are decoded straight out of the file buffer and parsed in parallel chunks,
+     * then added to the questionList in file order in a single bulk insert so that duplicates
+     * are resolved the same way as a sequential load. The header line and any trailing blank lines are skipped.
      *
-     * @return 0 if added successfully, and 1 otherwise
+     * @param fileBuffer the buffer holding the contents of the question file
+     * @param questions the questionList object for string parsed questions
+     * @param keepsDuplicates if true, questions duplicating an earlier question are kept
      */
-    private int addQuestionFromFile(QuestionList questions, String qnType, String qnDescription,
-                                    String qnDoneStatus, Question.QnDifficulty difficulty,
-                                    String qnModule) {
-        switch (qnType) {
-        case ShortAnsQn.IDENTIFIER:
-            return addShortAnsFromFile(qnDescription, qnModule, questions, qnDoneStatus, difficulty);
-        case MultipleChoiceQn.IDENTIFIER:
-            return addMCQFromFile(qnDescription, qnModule, questions, qnDoneStatus, difficulty);
-        default:
-            return 1;
+    private void parseQuestionsFromBuffer(ByteBuffer fileBuffer, QuestionList questions, boolean keepsDuplicates) {
+        int contentEnd = fileBuffer.limit();
+        while (contentEnd > 0 && Character.isWhitespace(fileBuffer.get(contentEnd - 1))) {
+            contentEnd--;
         }
+        int contentStart = QuestionParseTask.findLineEnd(fileBuffer, 0, contentEnd) + 1;
+        if (contentStart >= contentEnd) {
+            return;
+        }
+        List<Question> parsedQuestions = ForkJoinPool.commonPool()
+                .invoke(new QuestionParseTask(fileBuffer, contentStart, contentEnd, questions.getArena()));
+        List<Question> validQuestions = new ArrayList<>(parsedQuestions.size());
+        for (Question question : parsedQuestions) {
+            if (question != null) {
+                validQuestions.add(question);
+            }
+        }
+        int duplicateQuestions = questions.addQuestions(validQuestions, keepsDuplicates);
+        int failedQuestions = parsedQuestions.size() - validQuestions.size() + duplicateQuestions;
+        Ui.displayMessageStatically("    " + failedQuestions + " questions parsed unsuccessfully from storage file\n");
     }
 
     /**
-     * Adds a Short Answer question from storage into question list being built.
+     * Reads the whole content of a question file into a buffer.
+     * Large question files are memory-mapped, so their content is decoded directly from
+     * the file rather than copied onto the heap first.
      *
-     * @param questions The question list to be built.
-     * @param qnDescription Description of current question.
-     * @param qnDoneStatus Done status of current question.
-     * @param difficulty Difficulty of current question.
-     * @param qnModule Module of current question.
-     *
-     * @return 0 if added successfully, and 1 otherwise
+     * @param file the question file to be read
+     * @return buffer holding the content of the file
      */
-    private int addShortAnsFromFile(String qnDescription, String qnModule, QuestionList questions, String qnDoneStatus,
-                                    Question.QnDifficulty difficulty){
-        try {
-            // Split the description by "/" and check for empty fields
-            String[] qnTokens = qnDescription.split("/");
-            if (qnTokens[0].isEmpty() || qnTokens[1].isEmpty() || qnModule.isEmpty()) {
-                return 1;
+    private ByteBuffer readFileBuffer(File file) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = fileChannel.size();
+            if (fileSize >= MAPPING_THRESHOLD) {
+                return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
             }
-            boolean isAdded = questions.addShortAnswerQn(qnTokens[0].strip(), qnTokens[1].strip(), qnModule,
-                    difficulty, false);
-            if (!isAdded) {
-                return 1;
-            }
-            if (qnDoneStatus.equalsIgnoreCase("done")) {
-                questions.markQuestionAsDone(questions.getQuestionListSize(), false);
+            ByteBuffer fileBuffer = ByteBuffer.allocate((int) fileSize);
+            while (fileBuffer.hasRemaining()) {
+                if (fileChannel.read(fileBuffer) < 0) {
+                    break;
+                }
             }
+            fileBuffer.flip();
+            return fileBuffer;
+        }
+    }
+
+    /**
+     * Returns the journal generation stored in the header line of a text question file,
+     * such as 3 in "Latest Questions | 3".
+     *
+     * @param fileBuffer the buffer holding the contents of the question file
+     * @return the generation, or 0 if the header has none
+     */
+    private static int readTextGeneration(ByteBuffer fileBuffer) {
+        int headerEnd = QuestionParseTask.findLineEnd(fileBuffer, 0, fileBuffer.limit());
+        byte[] headerBytes = new byte[headerEnd];
+        ByteBuffer headerBuffer = fileBuffer.duplicate();
+        headerBuffer.position(0);
+        headerBuffer.get(headerBytes);
+        String header = new String(headerBytes, StandardCharsets.UTF_8).strip();
+        String generationPrefix = FILE_HEADER + Journal.FIELD_SEPARATOR;
+        if (!header.startsWith(generationPrefix)) {
             return 0;
-        } catch (ArrayIndexOutOfBoundsException exception) {
+        }
+        return Math.max(Journal.parseGeneration(header.substring(generationPrefix.length())), 0);
+    }
+
+    /**
+     * Parse a single stored question and add it to the questionList.
+     * The question is added even if it duplicates another question, as it was only journaled
+     * once it was in the question list, such as when a deleted question is put back by undo.
+     *
+     * @param rawQuestion the question string in storage format
+     * @param questions the questionList object for string parsed questions
+     *
+     * @return 0 if added successfully, and 1 otherwise
+     */
+    private int parseQuestionFromString(String rawQuestion, QuestionList questions) {
+        Question question = QuestionParseTask.parseQuestion(rawQuestion, questions.getArena());
+        if (question == null) {
             return 1;
         }
+        questions.addQuestions(List.of(question), true);
+        return 0;
     }
 
     /**
-     * Adds a MCQ question from storage into question list being built.
+     * Applies a single journal record to the question list being built.
      *
+     * @param record The journal record to be applied.
      * @param questions The question list to be built.
-     * @param qnDescription Description of current question.
-     * @param qnDoneStatus Done status of current question.
-     * @param difficulty Difficulty of current question.
-     * @param qnModule Module of current question.
      *
-     * @return 0 if added successfully, and 1 otherwise
+     * @return 0 if applied successfully, and 1 otherwise
      */
-    private int addMCQFromFile(String qnDescription, String qnModule, QuestionList questions, String qnDoneStatus,
-                                    Question.QnDifficulty difficulty){
+    private int replayJournalRecord(String record, QuestionList questions) {
+        String[] recordFields = record.split("\\|", 4);
+        String recordType = recordFields[0].strip();
         try {
-            // Split the description by "/" and check for empty fields
-            String[] qnTokens = qnDescription.split("/");
-            String questionString = qnTokens[0].strip();
-            String option1 = qnTokens[1].strip();
-            String option2 = qnTokens[2].strip();
-            String option3 = qnTokens[3].strip();
-            String option4 = qnTokens[4].strip();
-            int answer = Integer.parseInt(qnTokens[5].strip());
-            if (answer < 1 || answer > 4) {
-                return 1;
-            }
-            if (questionString.isEmpty() || option1.isEmpty() || option2.isEmpty() || option3.isEmpty()
-                    || option4.isEmpty() || qnModule.isEmpty()) {
-                return 1;
-            }
-            boolean isAdded = questions.addMultipleChoiceQn(questionString, option1, option2, option3, option4,
-                    answer, qnModule, difficulty, false);
-            if (!isAdded) {
+            switch (recordType) {
+            case Journal.ADD_RECORD:
+                return parseQuestionFromString(record.split("\\|", 2)[1], questions);
+            case Journal.DELETE_RECORD:
+                questions.deleteQuestionByIndex(Integer.parseInt(recordFields[1].strip()), false);
+                return 0;
+            case Journal.EDIT_RECORD:
+                questions.editQuestionByIndex(Integer.parseInt(recordFields[1].strip()),
+                        recordFields[2].strip(), recordFields[3].strip(), false);
+                return 0;
+            case Journal.MARKDIFF_RECORD:
+                Question.QnDifficulty difficulty = Parser.extractQuestionDifficulty(recordFields[2].strip());
+                if (difficulty == Question.QnDifficulty.INVALID) {
+                    return 1;
+                }
+                questions.markQuestionDifficulty(Integer.parseInt(recordFields[1].strip()), difficulty, false);
+                return 0;
+            default:
                 return 1;
             }
-            if (qnDoneStatus.equalsIgnoreCase("done")) {
-                questions.markQuestionAsDone(questions.getQuestionListSize(), false);
-            }
-            return 0;
-        } catch (ArrayIndexOutOfBoundsException | NumberFormatException exception) {
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
             return 1;
         }
     }
 
     /**
-     * Parse raw questions read from the question file and store them in the questionList
-     * Used at start of program to load all questions from the file
+     * Applies all changes recorded in the journal since the last snapshot
+     * to the question list being built, then folds them into a new snapshot.
+     * A journal whose generation is not newer than the snapshot was already folded into it,
+     * and was only left behind because the program stopped before discarding it, so it is discarded unread.
      *
-     * @param rawQuestions the arrayList of question strings to be parsed
-     * @param questions the questionList object for string parsed questions
+     * @param questions The question list to be built.
      */
-    private void parseQuestionsFromStrings(ArrayList<String> rawQuestions, QuestionList questions) {
-        int failedQuestions = 0;
-        for (int i = 1; i < rawQuestions.size(); i++) {
-            try {
-                String currentQuestion = rawQuestions.get(i);
-                String[] questionSubStrings = currentQuestion.split("\\|");
-                String questionType = questionSubStrings[0].strip();
-                String questionDoneStatus = questionSubStrings[1].strip();
-                String questionDescription = questionSubStrings[2].strip();
-                String questionModule = questionSubStrings[3].strip();
-                String questionDifficulty = questionSubStrings[4].strip();
-                Question.QnDifficulty difficulty = Parser.extractQuestionDifficulty(questionDifficulty);
-                if (difficulty == Question.QnDifficulty.INVALID) {
-                    failedQuestions++;
-                    continue;
-                }
-                failedQuestions += addQuestionFromFile(questions, questionType, questionDescription,
-                        questionDoneStatus, difficulty, questionModule);
-            } catch (ArrayIndexOutOfBoundsException e) {
-                failedQuestions++;
+    private void replayJournal(QuestionList questions) {
+        List<String> records;
+        try {
+            records = journal.readRecords();
+            int journalGeneration = journal.getGeneration();
+            boolean isFolded = journalGeneration != Journal.UNKNOWN_GENERATION
+                    && journalGeneration <= snapshotGeneration;
+            if (records.isEmpty() || isFolded) {
+                journal.clear();
+                journal.setGeneration(snapshotGeneration + 1);
+                return;
             }
+        } catch (IOException invalidJournal) {
+            Ui.displayMessageStatically("    " + invalidJournal.getMessage());
+            return;
         }
-        Ui.displayMessageStatically("    " + failedQuestions + " questions parsed unsuccessfully from storage file\n");
+        int failedRecords = 0;
+        for (String record : records) {
+            failedRecords += replayJournalRecord(record, questions);
+        }
+        if (failedRecords > 0) {
+            Ui.displayMessageStatically("    " + failedRecords + " changes replayed unsuccessfully from journal\n");
+        }
+        updateData(questions);
     }
     /**
      * Build a new question list from data stored in hard disk.
@@ -183,24 +285,63 @@ public class Storage {
         } catch(NullPointerException | IOException invalidFilePath) {
             Ui.displayMessageStatically("    " + invalidFilePath.getMessage());
         }
+        if (isBinary) {
+            buildListFromBinaryFile(questions);
+        } else {
+            buildListFromTextFile(dataFile, questions, true);
+        }
+        journal.setGeneration(snapshotGeneration + 1);
+        if (isJournaled) {
+            replayJournal(questions);
+        }
+    }
+    /**
+     * Build a new question list from question data stored as text.
+     * Questions duplicating an earlier question are kept when the text file is the question file,
+     * a snapshot of the question list as it was, so that journal records replayed on top of it
+     * find every question at the list index it had when the record was written.
+     *
+     * @param textFile The text file the question data is read from.
+     * @param questions The question list to be built.
+     * @param keepsDuplicates If true, questions duplicating an earlier question are kept.
+     */
+    private void buildListFromTextFile(File textFile, QuestionList questions, boolean keepsDuplicates){
         try {
-            Scanner fileScanner = new Scanner(dataFile);
-            // Pipe all lines into string arrayList for processing
-            ArrayList<String> rawQuestions = new ArrayList<String>();
-            while (fileScanner.hasNext()) {
-                String rawQuestion = fileScanner.nextLine();
-                rawQuestions.add(rawQuestion);
-            }
-            if (rawQuestions.size() <= 1) {
-                fileScanner.close();
-                return;
-            }
-            parseQuestionsFromStrings(rawQuestions, questions);
-            fileScanner.close();
+            ByteBuffer fileBuffer = readFileBuffer(textFile);
+            snapshotGeneration = readTextGeneration(fileBuffer);
+            parseQuestionsFromBuffer(fileBuffer, questions, keepsDuplicates);
         } catch(NullPointerException | IOException  invalidFilePath) {
             Ui.displayMessageStatically("    " + invalidFilePath.getMessage());
         }
     }
+    /**
+     * Build a new question list from question data stored in binary snapshot format.
+     * If the binary question file is still empty, questions are imported from the text
+     * question file of the same name instead, dropping any duplicates, and saved in binary format.
+     *
+     * @param questions The question list to be built.
+     */
+    private void buildListFromBinaryFile(QuestionList questions){
+        if (dataFile.length() == 0) {
+            String dataFilePath = dataFile.getPath();
+            File textFile = new File(dataFilePath.substring(0, dataFilePath.length() - BINARY_EXTENSION.length())
+                    + TEXT_EXTENSION);
+            if (textFile.isFile()) {
+                buildListFromTextFile(textFile, questions, false);
+                updateData(questions);
+            }
+            return;
+        }
+        try {
+            ByteBuffer fileBuffer = readFileBuffer(dataFile);
+            snapshotGeneration = BinarySnapshot.readGeneration(fileBuffer);
+            int failedQuestions = BinarySnapshot.read(fileBuffer, questions);
+            Ui.displayMessageStatically("    " + failedQuestions
+                    + " questions parsed unsuccessfully from storage file\n");
+        } catch (IOException | IllegalArgumentException invalidFile) {
+            Ui.displayMessageStatically("    " + invalidFile.getMessage());
+        }
+    }
     /**
      * Build a new question list from data stored in hard disk.
      * Prints out the questions in the list in CLI.
@@ -219,21 +360,226 @@ public class Storage {
     /**
      * Overwrites all existing data in storage with
      * the current questions in the question list.
-     * Used after every question change and on program termination.
+     * Used on program termination, and after every question change
+     * when storage is not journaled.
+     * Any journal records are discarded as they are now part of the snapshot.
+     * If storage is journaled, the snapshot records the generation of the journal it folds in before the journal
+     * is discarded, so the journal is not replayed again if the program stops in between.
+     * The arena of the question list is compacted first if most of its text is no longer used.
      *
      * @param questions The question list to overwrite current data with.
      */
     public void updateData(QuestionList questions){
         try{
-            //flush all current records
-            writeToFile(dataFile.getPath(), "Latest Questions" + System.lineSeparator(), false);
-            ArrayList<Question> allQuestions = questions.getAllQns();
-            for (Question question : allQuestions) {
-                writeToFile(dataFile.getPath(), question.toSerializedString(), true);
-            }
+            int generation = isJournaled ? snapshotGeneration + 1 : 0;
+            questions.compactBeforeSave();
+            writeSnapshot(questions, dataFile, isBinary, generation);
+            snapshotGeneration = generation;
+            journal.setGeneration(generation + 1);
+            journal.clear();
         } catch(NullPointerException | IOException invalidFilePath) {
             Ui.displayMessageStatically("    " + invalidFilePath.getMessage());
             Ui.showLine();
         }
     }
+
+    /**
+     * Writes the current questions in the question list to another file in text format.
+     * Used to export question data that is stored in binary format.
+     *
+     * @param questions The question list to be exported.
+     * @param filePath The file location in hard disk where data is exported to.
+     * @return true if the questions were exported successfully
+     */
+    public boolean exportData(QuestionList questions, String filePath){
+        try {
+            writeSnapshot(questions, new File(filePath), false, 0);
+            return true;
+        } catch (IOException | InvalidPathException invalidFilePath) {
+            Ui.displayMessageStatically("    " + invalidFilePath.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Records a change to the question list in storage.
+     * If storage is journaled, the change is appended to the journal and a new snapshot
+     * is only written once the journal grows past the compaction threshold.
+     * Otherwise, all existing data in storage is overwritten.
+     *
+     * @param questions The question list after the change.
+     * @param recordFields Fields of the journal record describing the change.
+     */
+    private void recordChange(QuestionList questions, String... recordFields) {
+        if (!isJournaled) {
+            updateData(questions);
+            return;
+        }
+        try {
+            journal.append(recordFields);
+        } catch (IOException invalidFilePath) {
+            Ui.displayMessageStatically("    " + invalidFilePath.getMessage());
+            updateData(questions);
+            return;
+        }
+        if (journal.getRecordCount() >= COMPACTION_THRESHOLD) {
+            updateData(questions);
+        }
+    }
+
+    /**
+     * Records a batch of changes to the question list in storage with a single write.
+     * If storage is journaled and the batch fits in the journal before the compaction threshold,
+     * all of its records are appended at once. Otherwise, a new snapshot is written instead.
+     *
+     * @param questions The question list after the changes.
+     * @param records Fields of the journal record describing each change, in the order they were made.
+     */
+    private void recordChanges(QuestionList questions, List<String[]> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (!isJournaled || journal.getRecordCount() + records.size() >= COMPACTION_THRESHOLD) {
+            updateData(questions);
+            return;
+        }
+        try {
+            journal.append(records);
+        } catch (IOException invalidFilePath) {
+            Ui.displayMessageStatically("    " + invalidFilePath.getMessage());
+            updateData(questions);
+        }
+    }
+
+    /**
+     * Records a newly added question in storage.
+     *
+     * @param questions The question list after the question is added.
+     * @param question The question that was added.
+     */
+    public void recordAddition(QuestionList questions, Question question) {
+        recordChange(questions, Journal.ADD_RECORD, question.toSerializedString());
+    }
+
+    /**
+     * Records several questions added to the back of the question list in storage with a single write.
+     *
+     * @param questions The question list after the questions are added.
+     * @param addedQuestions The questions that were added, in list order.
+     */
+    public void recordAdditions(QuestionList questions, List<Question> addedQuestions) {
+        List<String[]> records = new ArrayList<>();
+        for (Question question : addedQuestions) {
+            records.add(new String[] {Journal.ADD_RECORD, question.toSerializedString()});
+        }
+        recordChanges(questions, records);
+    }
+
+    /**
+     * Records the deletion of a question in storage.
+     *
+     * @param questions The question list after the question is deleted.
+     * @param qnIndex The list index the deleted question had.
+     */
+    public void recordDeletion(QuestionList questions, int qnIndex) {
+        recordChange(questions, Journal.DELETE_RECORD, String.valueOf(qnIndex));
+    }
+
+    /**
+     * Records the deletion of several questions in storage with a single write.
+     *
+     * @param questions The question list after the questions are deleted.
+     * @param qnIndexes The list indexes the deleted questions had, in the order they were deleted.
+     */
+    public void recordDeletions(QuestionList questions, int[] qnIndexes) {
+        List<String[]> records = new ArrayList<>();
+        for (int qnIndex : qnIndexes) {
+            records.add(new String[] {Journal.DELETE_RECORD, String.valueOf(qnIndex)});
+        }
+        recordChanges(questions, records);
+    }
+
+    /**
+     * Records an edit to one field of a question in storage.
+     *
+     * @param questions The question list after the question is edited.
+     * @param qnIndex The list index of the edited question.
+     * @param editField The field of the question that was edited.
+     * @param newValue The new value of the edited field.
+     */
+    public void recordEdit(QuestionList questions, int qnIndex, String editField, String newValue) {
+        recordChange(questions, Journal.EDIT_RECORD, String.valueOf(qnIndex), editField, newValue);
+    }
+
+    /**
+     * Records an edit to the same field of several questions in storage with a single write.
+     *
+     * @param questions The question list after the questions are edited.
+     * @param qnIndexes The list indexes of the edited questions.
+     * @param editField The field of the questions that was edited.
+     * @param newValue The new value of the edited field.
+     */
+    public void recordEdits(QuestionList questions, int[] qnIndexes, String editField, String newValue) {
+        String[] newValues = new String[qnIndexes.length];
+        Arrays.fill(newValues, newValue);
+        recordEdits(questions, qnIndexes, editField, newValues);
+    }
+
+    /**
+     * Records an edit to the same field of several questions, each to its own value,
+     * in storage with a single write.
+     *
+     * @param questions The question list after the questions are edited.
+     * @param qnIndexes The list indexes of the edited questions.
+     * @param editField The field of the questions that was edited.
+     * @param newValues The new value of the edited field of each question.
+     */
+    public void recordEdits(QuestionList questions, int[] qnIndexes, String editField, String[] newValues) {
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < qnIndexes.length; i++) {
+            records.add(new String[] {Journal.EDIT_RECORD, String.valueOf(qnIndexes[i]), editField, newValues[i]});
+        }
+        recordChanges(questions, records);
+    }
+
+    /**
+     * Records a change in difficulty of a question in storage.
+     *
+     * @param questions The question list after the difficulty is changed.
+     * @param qnIndex The list index of the marked question.
+     * @param qnDifficulty The new difficulty of the question.
+     */
+    public void recordDifficulty(QuestionList questions, int qnIndex, Question.QnDifficulty qnDifficulty) {
+        recordChange(questions, Journal.MARKDIFF_RECORD, String.valueOf(qnIndex), qnDifficulty.toString());
+    }
+
+    /**
+     * Records a change in difficulty of several questions in storage with a single write.
+     *
+     * @param questions The question list after the difficulties are changed.
+     * @param qnIndexes The list indexes of the marked questions.
+     * @param qnDifficulty The new difficulty of the questions.
+     */
+    public void recordDifficulties(QuestionList questions, int[] qnIndexes, Question.QnDifficulty qnDifficulty) {
+        Question.QnDifficulty[] qnDifficulties = new Question.QnDifficulty[qnIndexes.length];
+        Arrays.fill(qnDifficulties, qnDifficulty);
+        recordDifficulties(questions, qnIndexes, qnDifficulties);
+    }
+
+    /**
+     * Records a change in difficulty of several questions, each to its own difficulty,
+     * in storage with a single write.
+     *
+     * @param questions The question list after the difficulties are changed.
+     * @param qnIndexes The list indexes of the marked questions.
+     * @param qnDifficulties The new difficulty of each question.
+     */
+    public void recordDifficulties(QuestionList questions, int[] qnIndexes, Question.QnDifficulty[] qnDifficulties) {
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < qnIndexes.length; i++) {
+            records.add(new String[] {Journal.MARKDIFF_RECORD, String.valueOf(qnIndexes[i]),
+                    qnDifficulties[i].toString()});
+        }
+        recordChanges(questions, records);
+    }
 }
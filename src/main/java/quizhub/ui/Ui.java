@@ -31,33 +31,53 @@ public class Ui {
             "    3. mcq [question]/[option 1]/[option 2]/[option 3]/[option 4]/[answer index]/[module]/[difficulty]" +
             " - adds a multiple-choice question and its answer to the list" +
             System.lineSeparator() +
-            "    4. list - shows the list of questions and answers," +
+            "    4. list /[filter] ... - shows the list of questions and answers, optionally filtered by difficulty, " +
+            "type (short, mcq) or status (done, undone)," +
             System.lineSeparator() +
-            "    5. delete [question number] - deletes the question and answer at the specified number," +
+            "    5. delete [question number] - deletes the question and answer at the specified number " +
+            "(or several numbers and ranges, e.g. delete 1,4,9-20)," +
             System.lineSeparator() +
             "    6. find /description [description] - displays all questions containing the specified description," +
             System.lineSeparator() +
-            "    7. find /module [module] - displays all questions that belong to the specified module," +
+            "    7. find /keywords [keywords] - displays all questions whose description contains every one " +
+            "of the specified words (use /fuzzy instead of /keywords to allow typos, " +
+            "or /ranked to show only the most relevant questions)," +
             System.lineSeparator() +
-            "    8. edit [question number] /description [description] - edits the description of the question " +
+            "    8. find /module [module] - displays all questions that belong to the specified module," +
+            System.lineSeparator() +
+            "    9. edit [question number] /description [description] - edits the description of the question " +
             "with the specified number," +
             System.lineSeparator() +
-            "    9. edit [question number] /answer [answer] - edits the answer to the question with " +
+            "    10. edit [question number] /answer [answer] - edits the answer to the question with " +
             "the specified number," +
             System.lineSeparator() +
-            "    10. edit [question number] /option[number] [new value] - edits the option of the question with " +
-            "the specified number (MCQ only)," +
+            "    11. edit [question number] /option[number] [new value] - edits the option of the question with " +
+            "the specified number (MCQ only), or edit /module [old module] /module [new module] - " +
+            "moves all questions of a module to another module," +
             System.lineSeparator() +
-            "    11. start /[quiz mode] [start details] /[qn mode] /[qn type] - " +
+            "    12. start /[quiz mode] [start details] /[qn mode] /[qn type] - " +
             "starts the quiz with option for /module or /all and /random or /normal, and /short /mcq /mix types" +
             System.lineSeparator() +
-            "    12. shuffle - shuffle quiz questions to a random order," +
+            "    13. shuffle - shuffle quiz questions to a random order," +
             System.lineSeparator() +
-            "    13. markdiff [question number] /[question difficulty] - sets the difficulty of question " +
-            "with the specified number," +
+            "    14. markdiff [question number] /[question difficulty] - sets the difficulty of question " +
+            "with the specified number (or several numbers and ranges, e.g. markdiff 1,4,9-20 /hard)," +
+            System.lineSeparator() +
+            "    15. export [file path] - saves a copy of all questions to a text question file," +
+            System.lineSeparator() +
+            "    16. dedup [/on or /off] - shows groups of questions that look alike, or turns on or off " +
+            "the warning for them when adding questions," +
+            System.lineSeparator() +
+            "    17. stats - shows the number of questions by type, difficulty and module, and how many are done," +
+            System.lineSeparator() +
+            "    18. undo - undoes the latest change to the questions, such as a delete or shuffle," +
+            System.lineSeparator() +
+            "    19. redo - redoes the latest change that was undone," +
             System.lineSeparator() +
-            "    14. bye - exits the program";
+            "    20. bye - exits the program";
     public static final String INVALID_INTEGER_INDEX_MSG = "    Please enter valid integer question index!";
+    public static final String INVALID_INDEX_RANGE_MSG = "    Ono! A range of question numbers must go " +
+            "from a smaller to a larger number :<";
 
     public static final String INVALID_QUESTION_DIFFICULTY_MSG = "    Ono! We only support easy, normal and hard " +
             "difficulty levels" + System.lineSeparator() + "    No changes will be made to your difficulty level";
@@ -118,6 +118,71 @@ public class CommandFindTest {
         testCliOutputCorrectness(expectedOutput);
     }
 
+    /**
+     * Test finding by keywords only matches questions containing every keyword as a whole word
+     */
+    @Test
+    void testFindKeywordsWithMatches() {
+        String expectedOutput = "Here are questions that matched your search:"
+                + "    3: [S][X] Question3 / Answer3 | Mod3 | NORMAL";
+        Parser.parseCommand("find /keywords QUESTION3").executeCommand(ui, mockStorage, questionList);
+        testCliOutputCorrectness(expectedOutput);
+    }
+
+    /**
+     * Test finding by keywords does not match parts of words
+     */
+    @Test
+    void testFindKeywordsNoMatches() {
+        String expectedOutput = "Here are questions that matched your search:"
+                + "    No results found :< Check your keyword is correct?";
+        Parser.parseCommand("find /keywords Question").executeCommand(ui, mockStorage, questionList);
+        testCliOutputCorrectness(expectedOutput);
+    }
+
+    /**
+     * Test finding by mistyped keywords within a given number of typos
+     */
+    @Test
+    void testFindFuzzyWithMatches() {
+        String expectedOutput = "Here are questions that matched your search:"
+                + "    3: [S][X] Question3 / Answer3 | Mod3 | NORMAL";
+        Parser.parseCommand("find /fuzzy Qestion3 /distance 1").executeCommand(ui, mockStorage, questionList);
+        testCliOutputCorrectness(expectedOutput);
+    }
+
+    /**
+     * Test finding by mistyped keywords with an invalid number of typos
+     */
+    @Test
+    void testFindFuzzyInvalidDistance() {
+        Assertions.assertTrue(Parser.parseCommand("find /fuzzy Qestion3 /distance 9") instanceof CommandInvalid);
+        Assertions.assertTrue(Parser.parseCommand("find /fuzzy /distance 1") instanceof CommandInvalid);
+    }
+
+    /**
+     * Test finding by a query combining a module, a done status and a description text
+     */
+    @Test
+    void testFindQueryWithMatches() {
+        String expectedOutput = "Here are questions that matched your search:"
+                + "    1: [S][X] Question1 / Answer1 | Mod1 | NORMAL"
+                + "    3: [S][X] Question3 / Answer3 | Mod3 | NORMAL";
+        Parser.parseCommand("find /module mod3 MOD1 mod2 /done true /text question /difficulty normal")
+                .executeCommand(ui, mockStorage, questionList);
+        testCliOutputCorrectness(expectedOutput);
+    }
+
+    /**
+     * Test finding by a query with an invalid value
+     */
+    @Test
+    void testFindQueryInvalidValue() {
+        Assertions.assertTrue(Parser.parseCommand("find /type mcq /done maybe") instanceof CommandInvalid);
+        Assertions.assertTrue(Parser.parseCommand("find /difficulty medium") instanceof CommandInvalid);
+        Assertions.assertTrue(Parser.parseCommand("find /done") instanceof CommandInvalid);
+    }
+
     /**
      * Test finding by module with no keyword
      */
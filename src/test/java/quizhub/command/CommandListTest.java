@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import quizhub.parser.Parser;
 import quizhub.question.Question;
 import quizhub.questionlist.QuestionList;
 import quizhub.storage.MockStorage;
@@ -109,4 +110,37 @@ public class CommandListTest {
         Assertions.assertEquals(expectedOutput, actualOutput);
     }
 
+    /**
+     * Test display of questions matching filters of different kinds,
+     * after questions are marked as done, have their difficulty changed and are deleted.
+     * */
+    @Test
+    void testListFiltered(){
+        questionList.addShortAnswerQn("Question1", "Answer1", "Mod1",
+                Question.QnDifficulty.HARD, false);
+        questionList.addMultipleChoiceQn("Question2", "a", "b", "c", "d", 1, "Mod1",
+                Question.QnDifficulty.EASY, false);
+        questionList.addShortAnswerQn("Question3", "Answer3", "Mod2",
+                Question.QnDifficulty.NORMAL, false);
+        questionList.addShortAnswerQn("Question4", "Answer4", "Mod2",
+                Question.QnDifficulty.EASY, false);
+        questionList.markQuestionAsDone(3, false);
+        questionList.markQuestionDifficulty(3, Question.QnDifficulty.HARD, false);
+        questionList.deleteQuestionByIndex(1, false);
+        Parser.parseCommand("list /short /hard /easy /undone").executeCommand(ui, mockStorage, questionList);
+        Parser.parseCommand("list /mcq /hard").executeCommand(ui, mockStorage, questionList);
+        Parser.parseCommand("list /done /hard").executeCommand(ui, mockStorage, questionList);
+        testCliOutputCorrectness("3: [S][ ] Question4 / Answer4 | Mod2 | EASY" +
+                CommandList.NO_MATCHING_QN_MSG +
+                "    2: [S][X] Question3 / Answer3 | Mod2 | HARD");
+    }
+
+    /**
+     * Test that unknown filters are rejected.
+     * */
+    @Test
+    void testListInvalidFilter(){
+        Assertions.assertTrue(Parser.parseCommand("list /module CS1010") instanceof CommandInvalid);
+        Assertions.assertTrue(Parser.parseCommand("list all") instanceof CommandList);
+    }
 }
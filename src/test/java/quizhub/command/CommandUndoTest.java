@@ -0,0 +1,159 @@
+package quizhub.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import quizhub.parser.Parser;
+import quizhub.question.Question;
+import quizhub.questionlist.QueryCondition;
+import quizhub.questionlist.QuestionList;
+import quizhub.questionlist.QuestionQuery;
+import quizhub.storage.Journal;
+import quizhub.storage.MockStorage;
+import quizhub.storage.Storage;
+import quizhub.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class CommandUndoTest {
+    private QuestionList questionList;
+    private Ui ui;
+    private MockStorage mockStorage;
+    private Path dataFile;
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setQuestionList(@TempDir Path tempDir) throws IOException {
+        Path tempFile = tempDir.resolve("testStorage.txt");
+        dataFile = tempDir.resolve("journaled.txt");
+        questionList = new QuestionList();
+        new Parser(questionList);
+        mockStorage = new MockStorage(tempFile.toString());
+        ui = new Ui(mockStorage, questionList);
+        System.setOut(new PrintStream(outputStreamCaptor));
+        for (int i = 1; i <= 6; i++) {
+            execute("short Question" + i + " / Answer" + i + " / Mod" + (i % 2) + " / NORMAL");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setOut(standardOut);
+    }
+
+    private void execute(String userInput) {
+        Parser.parseCommand(userInput).executeCommand(ui, mockStorage, questionList);
+    }
+
+    private String getListOrder() {
+        return getListOrder(questionList);
+    }
+
+    private static String getListOrder(QuestionList questions) {
+        StringBuilder listOrder = new StringBuilder();
+        for (int i = 1; i <= questions.getQuestionListSize(); i++) {
+            Question question = questions.getQuestionByIndex(i);
+            listOrder.append(question.getQuestionBody()).append(' ')
+                    .append(question.getModule()).append(' ')
+                    .append(question.getDifficulty()).append(';');
+        }
+        return listOrder.toString();
+    }
+
+    @Test
+    public void testUndoRedo_everyChangeReversedInOrder() {
+        String[] listOrders = new String[6];
+        listOrders[0] = getListOrder();
+        execute("delete 2,4-5");
+        listOrders[1] = getListOrder();
+        execute("markdiff 1-2 /hard");
+        listOrders[2] = getListOrder();
+        execute("edit 1 /description Changed");
+        listOrders[3] = getListOrder();
+        execute("edit /module mod1 /module Mod9");
+        listOrders[4] = getListOrder();
+        execute("shuffle");
+        listOrders[5] = getListOrder();
+        for (int i = 4; i >= 0; i--) {
+            execute("undo");
+            Assertions.assertEquals(listOrders[i], getListOrder());
+        }
+        for (int i = 1; i <= 5; i++) {
+            execute("redo");
+            Assertions.assertEquals(listOrders[i], getListOrder());
+        }
+        Assertions.assertEquals(3, questionList.getStatistics().getNumQuestions());
+        Assertions.assertEquals(2, questionList.getStatistics().getNumQuestions(Question.QnDifficulty.HARD));
+    }
+
+    @Test
+    public void testUndo_newChangeClearsRedo() {
+        execute("delete 1");
+        execute("undo");
+        Assertions.assertEquals("Question1", questionList.getQuestionByIndex(1).getQuestionBody());
+        execute("short Question7 / Answer7 / Mod1 / NORMAL");
+        outputStreamCaptor.reset();
+        execute("redo");
+        Assertions.assertEquals(CommandRedo.NOTHING_TO_REDO_MSG,
+                outputStreamCaptor.toString().replaceAll("\\R", ""));
+        execute("undo");
+        Assertions.assertEquals(6, questionList.getQuestionListSize());
+        for (int i = 0; i < 6; i++) {
+            execute("undo");
+        }
+        Assertions.assertEquals(0, questionList.getQuestionListSize());
+        outputStreamCaptor.reset();
+        execute("undo");
+        Assertions.assertEquals(CommandUndo.NOTHING_TO_UNDO_MSG,
+                outputStreamCaptor.toString().replaceAll("\\R", ""));
+    }
+
+    @Test
+    public void testUndoRedo_journaledChangesReplayed() throws IOException {
+        Storage storage = new Storage(dataFile.toString(), true);
+        storage.updateData(questionList);
+        String[] userInputs = {"delete 5-6", "undo", "redo", "undo", "markdiff 1-2 /hard", "undo", "redo",
+            "edit 1 /description Changed", "undo", "redo", "edit /module mod1 /module Mod9", "undo"};
+        for (String userInput : userInputs) {
+            Parser.parseCommand(userInput).executeCommand(ui, storage, questionList);
+        }
+        Assertions.assertEquals(7, Files.readAllLines(dataFile).size());
+        List<String> records = Files.readAllLines(Path.of(dataFile + Journal.JOURNAL_EXTENSION));
+        Assertions.assertEquals("add | S | undone | Question5 / Answer5 | Mod1 | NORMAL", records.get(3));
+        Assertions.assertEquals("markdiff | 1 | NORMAL", records.get(11));
+        Assertions.assertEquals("edit | 1 | description | Question1", records.get(16));
+        Assertions.assertEquals("edit | 5 | module | Mod1", records.get(records.size() - 1));
+        QuestionList reloadedQuestions = new QuestionList();
+        new Storage(dataFile.toString(), true).buildCurrentListFromFile(reloadedQuestions);
+        Assertions.assertEquals(getListOrder(), getListOrder(reloadedQuestions));
+    }
+
+    @Test
+    public void testUndoDelete_questionIdsKept() {
+        int[] questionIds = new int[6];
+        for (int i = 0; i < 6; i++) {
+            questionIds[i] = questionList.getQuestionByIndex(i + 1).getQuestionId();
+        }
+        for (int i = 0; i < 3; i++) {
+            execute("delete 2,4-5");
+            execute("undo");
+        }
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertEquals(questionIds[i], questionList.getQuestionByIndex(i + 1).getQuestionId());
+        }
+        execute("short Question7 / Answer7 / Mod1 / NORMAL");
+        Assertions.assertEquals(6, questionList.getQuestionByIndex(7).getQuestionId());
+        Assertions.assertEquals(List.of(questionList.getQuestionByIndex(1), questionList.getQuestionByIndex(3),
+                questionList.getQuestionByIndex(5), questionList.getQuestionByIndex(7)),
+                questionList.searchByQuery(new QuestionQuery(List.of(QueryCondition.textContains("Question"),
+                        QueryCondition.moduleIn(List.of("Mod1"))))));
+    }
+}
@@ -3,12 +3,24 @@ package quizhub.questionlist;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import quizhub.exception.QuizHubExceptions;
+import quizhub.question.MultipleChoiceQn;
 import quizhub.question.Question;
+import quizhub.question.ShortAnsQn;
+import quizhub.ui.MockUi;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class QuestionListTest {
     private final PrintStream standardOut = System.out;
@@ -36,4 +48,440 @@ class QuestionListTest {
                 outputStreamCaptor.toString().strip().replaceAll("\\R", ""));
 
     }
+
+    @Test
+    void test_addQuestions_duplicatesSkipped() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("Question1", "Answer1", "Mod1", Question.QnDifficulty.NORMAL, false);
+        int duplicates = qns.addQuestions(List.of(
+                new ShortAnsQn("question1 ", "Answer2", "MOD1", Question.QnDifficulty.EASY),
+                new MultipleChoiceQn("Question1", "a", "b", "c", "d", 1, "Mod1", Question.QnDifficulty.EASY),
+                new ShortAnsQn("Question2", "Answer2", "Mod1", Question.QnDifficulty.EASY),
+                new ShortAnsQn("Question2", "Answer3", "Mod2", Question.QnDifficulty.EASY),
+                new ShortAnsQn("QUESTION2", "Answer4", "Mod1", Question.QnDifficulty.EASY)));
+        assertEquals(2, duplicates);
+        assertEquals(4, qns.getQuestionListSize());
+        assertEquals("Question2", qns.getQuestionByIndex(3).getQuestionBody());
+        assertEquals("Mod2", qns.getQuestionByIndex(4).getModule());
+    }
+
+    @Test
+    void test_containsDuplicateQuestion_afterEditAndDelete() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("Question1", "Answer1", "Mod1", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question2", "Answer2", "Mod1", Question.QnDifficulty.NORMAL, false);
+        qns.editQuestionByIndex(1, "description", "Question3", false);
+        assertFalse(qns.containsDuplicateQuestion("Question1", Question.QnType.SHORTANSWER, "Mod1", false));
+        assertTrue(qns.containsDuplicateQuestion(" question3", Question.QnType.SHORTANSWER, "MOD1", false));
+        qns.deleteQuestionByIndex(2, false);
+        assertFalse(qns.containsDuplicateQuestion("Question2", Question.QnType.SHORTANSWER, "Mod1", false));
+        assertTrue(qns.addShortAnswerQn("Question2", "Answer2", "Mod1", Question.QnDifficulty.NORMAL, false));
+    }
+
+    @Test
+    void test_searchListBySubstring_indexUpdatedOnEdit() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("What is recursion?", "Answer1", "CS2113", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("What is a binary tree?", "Answer2", "CS2040", Question.QnDifficulty.NORMAL, false);
+        qns.searchListByDescription("RECUR");
+        qns.editQuestionByIndex(1, "description", "What is a loop?", false);
+        qns.searchListByDescription("recur");
+        qns.searchListByModule("cs2");
+        qns.searchListByModule("13");
+        assertEquals(QuestionList.SEARCH_RESULT_MSG + "    1: [S][ ] What is recursion? / Answer1 | CS2113 | NORMAL"
+                + QuestionList.SEARCH_RESULT_MSG + QuestionList.NO_SEARCH_RESULTS_MSG
+                + QuestionList.SEARCH_RESULT_MSG + "    1: [S][ ] What is a loop? / Answer1 | CS2113 | NORMAL"
+                + "    2: [S][ ] What is a binary tree? / Answer2 | CS2040 | NORMAL"
+                + QuestionList.SEARCH_RESULT_MSG + "    1: [S][ ] What is a loop? / Answer1 | CS2113 | NORMAL",
+                outputStreamCaptor.toString().replaceAll("\\R", ""));
+    }
+
+    @Test
+    void test_assembleListByModules_plainAndRegexModules() throws QuizHubExceptions {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("Question1", "Answer1", "CS2113", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question2", "Answer2", "CS2040", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question3", "Answer3", "cs2113", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question4", "Answer4", "MA1521", Question.QnDifficulty.NORMAL, false);
+        List<Question> matchedQuestions = qns.assembleListByModules(new String[] {"cs2113", "MA.*"});
+        assertEquals(List.of(qns.getQuestionByIndex(1), qns.getQuestionByIndex(3), qns.getQuestionByIndex(4)),
+                matchedQuestions);
+        assertEquals(3, qns.assembleListByModules(new String[] {"cs2.*"}).size());
+        assertEquals(0, qns.assembleListByModules(new String[] {"cs2"}).size());
+    }
+
+    @Test
+    void test_searchListByModule_prefixAndSuggestions() throws QuizHubExceptions {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("Question1", "Answer1", "CS2113", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question2", "Answer2", "CS2040", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question3", "Answer3", "cs2101", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question4", "Answer4", "CS1231", Question.QnDifficulty.NORMAL, false);
+        assertEquals(2, qns.assembleListByModules(new String[] {"CS21*"}).size());
+        assertEquals(4, qns.assembleListByModules(new String[] {"cs*"}).size());
+        assertEquals(List.of("cs2101", "CS2113"), qns.suggestModules("cs21"));
+        qns.deleteQuestionByIndex(3, false);
+        assertEquals(List.of("CS2040", "CS2113"), qns.suggestModules("CS2999"));
+        assertTrue(qns.suggestModules("MA1521").isEmpty());
+        qns.searchListByModule("cs21*");
+        qns.searchListByModule("CS2114");
+        assertEquals(QuestionList.SEARCH_RESULT_MSG + "    1: [S][ ] Question1 / Answer1 | CS2113 | NORMAL"
+                + QuestionList.SEARCH_RESULT_MSG + QuestionList.NO_SEARCH_RESULTS_MSG
+                + QuestionList.MODULE_SUGGESTIONS_MSG + "CS2113",
+                outputStreamCaptor.toString().replaceAll("\\R", ""));
+    }
+
+    @Test
+    void test_getQuestionPosition_afterDeleteAndShuffle() {
+        QuestionList qns = new QuestionList();
+        for (int i = 1; i <= 5; i++) {
+            qns.addShortAnswerQn("Question" + i, "Answer" + i, "Mod1", Question.QnDifficulty.NORMAL, false);
+        }
+        Question deletedQuestion = qns.getQuestionByIndex(2);
+        Question lastQuestion = qns.getQuestionByIndex(5);
+        qns.deleteQuestionByIndex(2, false);
+        assertEquals(0, qns.getQuestionPosition(deletedQuestion));
+        assertEquals(4, qns.getQuestionPosition(lastQuestion));
+        qns.shuffleQuestions(new MockUi(qns, null));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, qns.getQuestionPosition(qns.getQuestionByIndex(i)));
+        }
+        assertNotEquals(deletedQuestion.getQuestionId(), lastQuestion.getQuestionId());
+    }
+
+    @Test
+    void test_searchByQuery_conditionsCombined() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("What is recursion?", "Answer1", "CS2113", Question.QnDifficulty.HARD, false);
+        qns.addMultipleChoiceQn("What is a recursive call?", "a", "b", "c", "d", 1, "CS2040",
+                Question.QnDifficulty.HARD, false);
+        qns.addShortAnswerQn("What is a loop?", "Answer3", "CS2040", Question.QnDifficulty.EASY, false);
+        qns.addShortAnswerQn("Why recurse?", "Answer4", "CS2040", Question.QnDifficulty.HARD, false);
+        qns.markQuestionAsDone(4, false);
+        assertEquals(List.of(qns.getQuestionByIndex(1), qns.getQuestionByIndex(4)),
+                qns.searchByQuery(new QuestionQuery(List.of(QueryCondition.textContains("RECUR"),
+                        QueryCondition.typeIn(Set.of(Question.QnType.SHORTANSWER))))));
+        assertEquals(List.of(qns.getQuestionByIndex(2)),
+                qns.searchByQuery(new QuestionQuery(List.of(QueryCondition.moduleIn(List.of("cs2040")),
+                        QueryCondition.doneStatusIs(false), QueryCondition.textContains("a"),
+                        QueryCondition.difficultyIn(Set.of(Question.QnDifficulty.HARD))))));
+        qns.markQuestionDifficulty(3, Question.QnDifficulty.HARD, false);
+        assertEquals(3, qns.searchByQuery(new QuestionQuery(List.of(QueryCondition.moduleIn(List.of("CS.*")),
+                QueryCondition.difficultyIn(Set.of(Question.QnDifficulty.HARD)),
+                QueryCondition.doneStatusIs(false)))).size());
+        assertEquals(4, qns.searchByQuery(new QuestionQuery(List.of())).size());
+    }
+
+    @Test
+    void test_searchByQuery_cachedUntilChanged() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("Question1", "Answer1", "CS2113", Question.QnDifficulty.HARD, false);
+        qns.addShortAnswerQn("Question2", "Answer2", "CS2040", Question.QnDifficulty.EASY, false);
+        QuestionQuery hardQuery = new QuestionQuery(List.of(
+                QueryCondition.difficultyIn(Set.of(Question.QnDifficulty.HARD))));
+        assertEquals(1, qns.searchByQuery(hardQuery).size());
+        assertEquals(1, qns.searchByQuery(new QuestionQuery(List.of(
+                QueryCondition.difficultyIn(Set.of(Question.QnDifficulty.HARD))))).size());
+        assertEquals(1, qns.getQueryCacheHits());
+        assertEquals(1, qns.getQueryCacheMisses());
+        qns.markQuestionDifficulty(2, Question.QnDifficulty.HARD, false);
+        assertEquals(2, qns.searchByQuery(hardQuery).size());
+        assertEquals(1, qns.getQueryCacheHits());
+        assertEquals(2, qns.getQueryCacheMisses());
+    }
+
+    @Test
+    void test_searchListByRelevance_topResultsRanked() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("What is a binary tree?", "Answer1", "CS2040", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Binary search on a binary tree", "Answer2", "CS2040", Question.QnDifficulty.NORMAL,
+                false);
+        qns.addShortAnswerQn("What is recursion?", "Answer3", "CS2113", Question.QnDifficulty.NORMAL, false);
+        qns.searchListByRelevance("binary tree", 1);
+        qns.searchListByRelevance("what tree", 3);
+        assertEquals(QuestionList.SEARCH_RESULT_MSG
+                + "    2: [S][ ] Binary search on a binary tree / Answer2 | CS2040 | NORMAL"
+                + QuestionList.SEARCH_RESULT_MSG
+                + "    1: [S][ ] What is a binary tree? / Answer1 | CS2040 | NORMAL"
+                + "    3: [S][ ] What is recursion? / Answer3 | CS2113 | NORMAL"
+                + "    2: [S][ ] Binary search on a binary tree / Answer2 | CS2040 | NORMAL",
+                outputStreamCaptor.toString().replaceAll("\\R", ""));
+    }
+
+    @Test
+    void test_findNearDuplicates_similarDescriptionsGrouped() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("What is the value of pi?", "3.14", "MA1521", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Who wrote Hamlet?", "Shakespeare", "EL1101", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("what is the value of  pi", "3.14", "CS1231", Question.QnDifficulty.NORMAL, false);
+        ArrayList<ArrayList<Question>> nearDuplicateGroups = qns.findNearDuplicates();
+        assertEquals(1, nearDuplicateGroups.size());
+        assertEquals(List.of(qns.getQuestionByIndex(1), qns.getQuestionByIndex(3)), nearDuplicateGroups.get(0));
+        qns.deleteQuestionByIndex(3, false);
+        assertTrue(qns.findNearDuplicates().isEmpty());
+    }
+
+    @Test
+    void test_findNearDuplicates_chainOfSimilarDescriptionsGrouped() {
+        QuestionList qns = new QuestionList();
+        String[] descriptions = {"epsilon kappa lambda tau tau zeta omega sigma epsilon tau",
+            "epsilon kappa lambda tau tau zeta x3 sigma epsilon tau",
+            "epsilon kappa lambda tau tau zeta x3 y75 epsilon tau"};
+        for (String description : descriptions) {
+            qns.addShortAnswerQn(description, "Answer", "Mod1", Question.QnDifficulty.NORMAL, false);
+        }
+        ArrayList<ArrayList<Question>> nearDuplicateGroups = qns.findNearDuplicates();
+        assertEquals(1, nearDuplicateGroups.size());
+        assertEquals(3, nearDuplicateGroups.get(0).size());
+        qns.deleteQuestionByIndex(2, false);
+        assertTrue(qns.findNearDuplicates().isEmpty());
+    }
+
+    @Test
+    void test_addQuestion_warnsAboutNearDuplicatesWhenChecked() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("What is the value of pi?", "3.14", "MA1521", Question.QnDifficulty.NORMAL, false);
+        qns.setNearDuplicateCheck(true);
+        qns.addShortAnswerQn("What is the value of pi", "3.14", "CS1231", Question.QnDifficulty.NORMAL, true);
+        assertEquals(2, qns.getQuestionListSize());
+        assertTrue(outputStreamCaptor.toString().contains(QuestionList.SIMILAR_QN_WARNING_MSG));
+        assertTrue(outputStreamCaptor.toString()
+                .contains("    1: [S][ ] What is the value of pi? / 3.14 | MA1521 | NORMAL"));
+    }
+
+    @Test
+    void test_printStatistics_countsUpdatedOnChanges() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("Question1", "Answer1", "CS2113", Question.QnDifficulty.EASY, false);
+        qns.addShortAnswerQn("Question2", "Answer2", "CS2040", Question.QnDifficulty.NORMAL, false);
+        qns.addMultipleChoiceQn("Question3", "1", "2", "3", "4", 1, "cs2113", Question.QnDifficulty.NORMAL, false);
+        qns.markQuestionAsDone(1, false);
+        qns.markQuestionDifficulty(2, Question.QnDifficulty.HARD, false);
+        qns.deleteQuestionByIndex(1, false);
+        QuestionStatistics statistics = qns.getStatistics();
+        assertEquals(2, statistics.getNumQuestions());
+        assertEquals(0, statistics.getNumDoneQuestions());
+        assertEquals(0, statistics.getNumQuestions(Question.QnDifficulty.EASY));
+        assertEquals(1, statistics.getNumQuestions(Question.QnDifficulty.HARD));
+        qns.markQuestionAsDone(2, false);
+        qns.searchListByModule("cs2040");
+        qns.searchListByModule("cs2040");
+        outputStreamCaptor.reset();
+        qns.printStatistics();
+        assertEquals(QuestionList.STATISTICS_MSG
+                + "    Questions: 2, of which 1 done (50%)"
+                + "    By type: short answer 1, multiple choice 1"
+                + "    By difficulty: easy 0, normal 1, hard 1"
+                + "    By module: CS2040 1, CS2113 1"
+                + "    Searches answered from cache: 1 of 2",
+                outputStreamCaptor.toString().replaceAll("\\R", ""));
+    }
+
+    @Test
+    void test_deleteQuestionByIndex_tombstonesKeepListIndexes() {
+        QuestionList qns = new QuestionList();
+        for (int i = 1; i <= 200; i++) {
+            qns.addShortAnswerQn("Question" + i, "Answer" + i, "Mod" + (i % 3), Question.QnDifficulty.NORMAL, false);
+        }
+        for (int i = 1; i <= 100; i++) {
+            qns.deleteQuestionByIndex(i, false);
+        }
+        assertEquals(100, qns.getQuestionListSize());
+        for (int i = 1; i <= 100; i++) {
+            Question question = qns.getQuestionByIndex(i);
+            assertEquals("Question" + (2 * i), question.getQuestionBody());
+            assertEquals(i, qns.getQuestionPosition(question));
+        }
+        assertEquals(null, qns.getQuestionByIndex(101));
+        qns.deleteQuestionByIndex(100, false);
+        qns.addShortAnswerQn("Question201", "Answer201", "Mod0", Question.QnDifficulty.NORMAL, false);
+        assertEquals("Question201", qns.getQuestionByIndex(100).getQuestionBody());
+        assertEquals(100, qns.getAllQns().size());
+        assertEquals(qns.getQuestionByIndex(50), qns.getAllQns().get(49));
+    }
+
+    @Test
+    void test_readsUnderSharedLock_skipTombstonesAndRemovedIds() {
+        QuestionList qns = new QuestionList();
+        for (int i = 1; i <= 30; i++) {
+            qns.addShortAnswerQn("Question" + i, "Answer" + i, "Mod" + (i % 3), Question.QnDifficulty.NORMAL, false);
+        }
+        for (int i = 1; i <= 10; i++) {
+            qns.deleteQuestionByIndex(i, false);
+        }
+        List<Question> allQuestions = qns.getAllQns();
+        assertEquals(20, allQuestions.size());
+        assertFalse(allQuestions.contains(null));
+        ArrayList<Question> moduleQuestions =
+                qns.searchByQuery(new QuestionQuery(List.of(QueryCondition.moduleIn(List.of("Mod1")))));
+        assertEquals(6, moduleQuestions.size());
+        assertEquals("Question4", moduleQuestions.get(0).getQuestionBody());
+        assertEquals(moduleQuestions, qns.searchByQuery(new QuestionQuery(
+                List.of(QueryCondition.moduleIn(List.of("Mod1"))))));
+        assertEquals(1, qns.getQueryCacheHits());
+        qns.runExclusively(() -> assertEquals(allQuestions, qns.getAllQns()));
+    }
+
+    @Test
+    void test_saveAfterManyEdits_arenaCompactedAndOldCopiesReadable() {
+        QuestionList qns = new QuestionList();
+        String longAnswer = "a".repeat(1000);
+        qns.addShortAnswerQn("Question1", longAnswer, "Mod1", Question.QnDifficulty.NORMAL, false);
+        qns.addShortAnswerQn("Question2", "Answer2", "Mod2", Question.QnDifficulty.NORMAL, false);
+        Question originalQuestion = qns.getQuestionByIndex(1);
+        for (int i = 0; i < 1100; i++) {
+            qns.editQuestionByIndex(1, "answer", longAnswer + i, false);
+        }
+        assertTrue(qns.getArena().getStoredBytes() > 1_000_000);
+        qns.compactBeforeSave();
+        assertTrue(qns.getArena().getStoredBytes() < 2000);
+        assertEquals(longAnswer + 1099, qns.getQuestionByIndex(1).getQuestionAnswer());
+        assertEquals("Mod2", qns.getQuestionByIndex(2).getModule());
+        assertEquals(longAnswer, originalQuestion.getQuestionAnswer());
+        assertEquals(2, qns.getQuestionPosition(qns.getQuestionByIndex(2)));
+        assertEquals(List.of(qns.getQuestionByIndex(2)),
+                qns.searchByQuery(new QuestionQuery(List.of(QueryCondition.moduleIn(List.of("mod2"))))));
+    }
+
+    @Test
+    void test_batchChanges_deleteMarkAndRenameModule() {
+        QuestionList qns = new QuestionList();
+        for (int i = 1; i <= 6; i++) {
+            qns.addShortAnswerQn("Question" + i, "Answer" + i, i <= 3 ? "CS2113" : "CS2040",
+                    Question.QnDifficulty.NORMAL, false);
+        }
+        assertEquals(0, qns.deleteQuestionsByIndexes(new int[]{2, 7}, false).length);
+        assertEquals(6, qns.getQuestionListSize());
+        assertTrue(Arrays.equals(new int[]{5, 2},
+                qns.deleteQuestionsByIndexes(new int[]{2, 5}, false)));
+        assertEquals(4, qns.getQuestionListSize());
+        assertEquals("Question3", qns.getQuestionByIndex(2).getQuestionBody());
+        assertEquals("Question6", qns.getQuestionByIndex(4).getQuestionBody());
+
+        qns.markQuestionDifficulty(1, Question.QnDifficulty.HARD, false);
+        assertTrue(Arrays.equals(new int[]{2, 3},
+                qns.markQuestionsDifficulty(new int[]{1, 2, 3}, Question.QnDifficulty.HARD, false)));
+        assertEquals(3, qns.getStatistics().getNumQuestions(Question.QnDifficulty.HARD));
+
+        assertTrue(Arrays.equals(new int[]{1, 2},
+                qns.renameModule("cs2113", "CS2113T", false)));
+        ArrayList<Question> movedQuestions = new ArrayList<>();
+        qns.assembleListByModule("CS2113", movedQuestions);
+        assertEquals(0, movedQuestions.size());
+        qns.assembleListByModule("CS2113T", movedQuestions);
+        assertEquals(2, movedQuestions.size());
+        assertEquals("CS2113T", qns.getQuestionByIndex(1).getModule());
+    }
+
+    @Test
+    void test_editQuestion_earlierSnapshotUnchanged() {
+        QuestionList qns = new QuestionList();
+        qns.addShortAnswerQn("Question1", "Answer1", "Mod1", Question.QnDifficulty.NORMAL, false);
+        List<Question> snapshot = qns.getAllQns();
+        qns.editQuestionByIndex(1, "description", "Changed", false);
+        qns.markQuestionDifficulty(1, Question.QnDifficulty.HARD, false);
+        qns.deleteQuestionByIndex(1, false);
+        assertEquals(1, snapshot.size());
+        assertEquals("Question1", snapshot.get(0).getQuestionBody());
+        assertEquals(Question.QnDifficulty.NORMAL, snapshot.get(0).getDifficulty());
+    }
+
+    @Test
+    void test_addAndEditText_readBackUnchanged() {
+        QuestionList qns = new QuestionList();
+        String longAnswer = "\u00e9\u65e5".repeat(300000);
+        qns.addShortAnswerQn("Caf\u00e9?", longAnswer, "CS2113", Question.QnDifficulty.HARD, false);
+        qns.addMultipleChoiceQn("Pick", "", "\u65e5\u672c", "C", "D", 2, "CS2113", Question.QnDifficulty.EASY, false);
+        qns.markQuestionAsDone(2, false);
+        qns.editQuestionByIndex(1, "module", "CS2040", false);
+        Question shortAnswerQn = qns.getQuestionByIndex(1);
+        Question multipleChoiceQn = qns.getQuestionByIndex(2);
+        assertEquals("Caf\u00e9?", shortAnswerQn.getQuestionBody());
+        assertEquals(longAnswer, shortAnswerQn.getQuestionAnswer());
+        assertEquals("CS2040", shortAnswerQn.getModule());
+        assertEquals(Question.QnDifficulty.HARD, shortAnswerQn.getDifficulty());
+        assertEquals("", multipleChoiceQn.getOption(1));
+        assertEquals("\u65e5\u672c", multipleChoiceQn.getOption(2));
+        assertEquals("CS2113", multipleChoiceQn.getModule());
+        assertEquals(Question.QnType.MULTIPLECHOICE, multipleChoiceQn.getQuestionType());
+        assertEquals(Question.QnDifficulty.EASY, multipleChoiceQn.getDifficulty());
+        assertTrue(multipleChoiceQn.questionIsDone());
+    }
+
+    @Test
+    void test_changeLargeList_earlierVersionsUnchanged() {
+        QuestionList qns = new QuestionList();
+        for (int i = 0; i < 2000; i++) {
+            qns.addShortAnswerQn("Question" + i, "Answer" + i, "Mod1", Question.QnDifficulty.NORMAL, false);
+        }
+        List<Question> allAdded = qns.getAllQns();
+        assertTrue(allAdded == qns.getAllQns());
+        for (int i = 1; i <= 1000; i++) {
+            qns.deleteQuestionByIndex(i, false);
+        }
+        qns.markQuestionDifficulty(1000, Question.QnDifficulty.HARD, false);
+        List<Question> halfDeleted = qns.getAllQns();
+        qns.shuffleQuestions(1L);
+        qns.addShortAnswerQn("Question2000", "Answer2000", "Mod1", Question.QnDifficulty.NORMAL, false);
+        assertEquals(2000, allAdded.size());
+        assertEquals(1000, halfDeleted.size());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals("Question" + i, allAdded.get(i).getQuestionBody());
+            assertEquals(Question.QnDifficulty.NORMAL, allAdded.get(i).getDifficulty());
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Question" + (2 * i + 1), halfDeleted.get(i).getQuestionBody());
+        }
+        assertEquals(Question.QnDifficulty.HARD, halfDeleted.get(999).getDifficulty());
+        assertEquals(1001, qns.getAllQns().size());
+        assertEquals("Question2000", qns.getQuestionByIndex(1001).getQuestionBody());
+    }
+
+    @Test
+    void test_concurrentReadersAndWriters_listStaysConsistent() throws InterruptedException {
+        QuestionList qns = new QuestionList();
+        for (int i = 0; i < 500; i++) {
+            qns.addShortAnswerQn("Question" + i, "Answer" + i, "Mod" + (i % 5), Question.QnDifficulty.NORMAL, false);
+        }
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int writer = t;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        String description = "New" + writer + "-" + i;
+                        qns.runExclusively(() -> {
+                            qns.addShortAnswerQn(description, "Answer", "Mod9", Question.QnDifficulty.EASY, false);
+                            qns.deleteQuestionByIndex(1, false);
+                        });
+                        qns.editQuestionByIndex(qns.getQuestionListSize(), "answer", "Edited", false);
+                    }
+                } catch (Throwable error) {
+                    errors.add(error);
+                }
+            }));
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        int size = qns.getQuestionListSize();
+                        assertTrue(size == 500 || size == 501);
+                        assertEquals(500, qns.getAllQns().size());
+                        qns.searchByQuery(new QuestionQuery(List.of(QueryCondition.textContains("Question"))));
+                    }
+                } catch (Throwable error) {
+                    errors.add(error);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(List.of(), errors);
+        assertEquals(500, qns.getQuestionListSize());
+        assertEquals(500, qns.getStatistics().getNumQuestions());
+    }
 }
@@ -0,0 +1,297 @@
+package quizhub.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import quizhub.parser.Parser;
+import quizhub.question.Question;
+import quizhub.questionlist.QuestionList;
+import quizhub.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StorageTest {
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Path dataFile;
+    private Path journalFile;
+
+    @BeforeEach
+    public void setUp(@TempDir Path tempDir) {
+        dataFile = tempDir.resolve("questionlist.txt");
+        journalFile = tempDir.resolve("questionlist.txt" + Journal.JOURNAL_EXTENSION);
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setOut(standardOut);
+    }
+
+    /**
+     * Test changes are appended to the journal without rewriting the question file
+     */
+    @Test
+    public void testJournaledChangesAppendToJournal() throws IOException {
+        Storage storage = new Storage(dataFile.toString(), true);
+        QuestionList questions = new QuestionList();
+        questions.addShortAnswerQn("Question1", "Answer1", "Mod1", Question.QnDifficulty.NORMAL, false);
+        storage.recordAddition(questions, questions.getQuestionByIndex(1));
+        questions.markQuestionDifficulty(1, Question.QnDifficulty.HARD, false);
+        storage.recordDifficulty(questions, 1, Question.QnDifficulty.HARD);
+
+        Assertions.assertFalse(Files.exists(dataFile));
+        Assertions.assertEquals(3, Files.readAllLines(journalFile).size());
+        Assertions.assertEquals("generation | 1", Files.readAllLines(journalFile).get(0));
+        Assertions.assertEquals("markdiff | 1 | HARD", Files.readAllLines(journalFile).get(2));
+    }
+
+    /**
+     * Test a journal left behind by stopping between writing a snapshot and discarding the journal
+     * is not replayed on top of the snapshot that already holds its changes
+     */
+    @Test
+    public void testJournalFoldedIntoSnapshotNotReplayed() throws IOException {
+        for (String fileName : List.of("questionlist.txt", "binarylist.bin")) {
+            Path questionFile = dataFile.resolveSibling(fileName);
+            Path leftJournalFile = Path.of(questionFile + Journal.JOURNAL_EXTENSION);
+            Storage storage = new Storage(questionFile.toString(), true);
+            QuestionList questions = new QuestionList();
+            storage.buildCurrentListFromFile(questions);
+            for (int i = 1; i <= 3; i++) {
+                questions.addShortAnswerQn("Q" + i, "A" + i, "Mod1", Question.QnDifficulty.NORMAL, false);
+                storage.recordAddition(questions, questions.getQuestionByIndex(i));
+            }
+            questions.deleteQuestionByIndex(1, false);
+            storage.recordDeletion(questions, 1);
+            List<String> journalRecords = Files.readAllLines(leftJournalFile);
+            storage.updateData(questions);
+            Files.write(leftJournalFile, journalRecords);
+
+            Storage reloadedStorage = new Storage(questionFile.toString(), true);
+            QuestionList loadedQuestions = new QuestionList();
+            reloadedStorage.buildCurrentListFromFile(loadedQuestions);
+            Assertions.assertEquals(2, loadedQuestions.getQuestionListSize());
+            Assertions.assertEquals("Q2", loadedQuestions.getQuestionByIndex(1).getQuestionBody());
+            Assertions.assertEquals("Q3", loadedQuestions.getQuestionByIndex(2).getQuestionBody());
+            Assertions.assertFalse(Files.exists(leftJournalFile));
+
+            loadedQuestions.deleteQuestionByIndex(1, false);
+            reloadedStorage.recordDeletion(loadedQuestions, 1);
+            QuestionList replayedQuestions = new QuestionList();
+            new Storage(questionFile.toString(), true).buildCurrentListFromFile(replayedQuestions);
+            Assertions.assertEquals(1, replayedQuestions.getQuestionListSize());
+            Assertions.assertEquals("Q3", replayedQuestions.getQuestionByIndex(1).getQuestionBody());
+        }
+    }
+
+    /**
+     * Test journal records are replayed on top of the last snapshot and then compacted
+     */
+    @Test
+    public void testJournalReplayedOnLoad() throws IOException {
+        Files.writeString(dataFile, "Latest Questions" + System.lineSeparator()
+                + "S | undone | Question1 / Answer1 | Mod1 | NORMAL" + System.lineSeparator()
+                + "S | done | Question2 / Answer2 | Mod2 | EASY" + System.lineSeparator());
+        Files.writeString(journalFile, "add | M | undone | Question3 / a / b / c / d / 2 | Mod3 | HARD"
+                + System.lineSeparator() + "edit | 1 | answer | New Answer" + System.lineSeparator()
+                + "delete | 2" + System.lineSeparator());
+        Storage storage = new Storage(dataFile.toString(), true);
+        QuestionList questions = new QuestionList();
+        storage.buildCurrentListFromFile(questions);
+
+        Assertions.assertEquals(2, questions.getQuestionListSize());
+        Assertions.assertEquals("New Answer", questions.getQuestionByIndex(1).getQuestionAnswer());
+        Assertions.assertEquals("Question3", questions.getQuestionByIndex(2).getQuestionBody());
+        Assertions.assertFalse(Files.exists(journalFile));
+        Assertions.assertEquals("M | undone | Question3 / a / b / c / d / 2 | Mod3 | HARD",
+                Files.readAllLines(dataFile).get(2));
+    }
+
+    /**
+     * Test storage without journaling rewrites the question file on every change
+     */
+    @Test
+    public void testUnjournaledChangesRewriteFile() throws IOException {
+        Storage storage = new Storage(dataFile.toString());
+        QuestionList questions = new QuestionList();
+        questions.addShortAnswerQn("Question1", "Answer1", "Mod1", Question.QnDifficulty.NORMAL, false);
+        storage.recordAddition(questions, questions.getQuestionByIndex(1));
+
+        Assertions.assertFalse(Files.exists(journalFile));
+        Assertions.assertEquals("S | undone | Question1 / Answer1 | Mod1 | NORMAL",
+                Files.readAllLines(dataFile).get(1));
+    }
+
+    /**
+     * Test a snapshot replaces the question file as a whole without leaving a temporary file
+     */
+    @Test
+    public void testSnapshotReplacesFile() throws IOException {
+        Files.writeString(dataFile, "Latest Questions" + System.lineSeparator()
+                + "S | undone | Old / Answer | Mod1 | NORMAL" + System.lineSeparator());
+        Storage storage = new Storage(dataFile.toString());
+        QuestionList questions = new QuestionList();
+        questions.addShortAnswerQn("Question1", "Answer1", "Mod1", Question.QnDifficulty.NORMAL, false);
+        questions.addMultipleChoiceQn("Question2", "a", "b", "c", "d", 3, "Mod2",
+                Question.QnDifficulty.EASY, false);
+        storage.updateData(questions);
+
+        Assertions.assertEquals(List.of("Latest Questions",
+                "S | undone | Question1 / Answer1 | Mod1 | NORMAL",
+                "M | undone | Question2 / a / b / c / d / 3 | Mod2 | EASY"), Files.readAllLines(dataFile));
+        Assertions.assertFalse(Files.exists(Path.of(dataFile + Storage.TEMP_EXTENSION)));
+    }
+
+    /**
+     * Test questions saved in binary format are loaded back unchanged
+     */
+    @Test
+    public void testBinarySnapshotRoundTrip() {
+        String binaryFile = dataFile.resolveSibling("questionlist.bin").toString();
+        QuestionList questions = new QuestionList();
+        questions.addShortAnswerQn("Question1", "Answer1", "Mod1", Question.QnDifficulty.HARD, false);
+        questions.addMultipleChoiceQn("Question2", "a", "b", "c", "d", 3, "Mod1",
+                Question.QnDifficulty.EASY, false);
+        questions.markQuestionAsDone(2, false);
+        new Storage(binaryFile).updateData(questions);
+
+        QuestionList loadedQuestions = new QuestionList();
+        new Storage(binaryFile).buildCurrentListFromFile(loadedQuestions);
+        Assertions.assertEquals(2, loadedQuestions.getQuestionListSize());
+        for (int i = 1; i <= 2; i++) {
+            Assertions.assertEquals(questions.viewQuestionByIndex(i), loadedQuestions.viewQuestionByIndex(i));
+        }
+    }
+
+    /**
+     * Test a binary question file with a damaged question count is rejected before anything is allocated for it
+     */
+    @Test
+    public void testBinarySnapshotWithHugeCountRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(5 * Integer.BYTES);
+        buffer.putInt(BinarySnapshot.MAGIC_NUMBER).putInt(BinarySnapshot.FORMAT_VERSION).putInt(0)
+                .putInt(0x7ffffff0).putInt(0);
+        buffer.flip();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BinarySnapshot.read(buffer, new QuestionList()));
+    }
+
+    /**
+     * Test a question file large enough to be parsed in parallel chunks is loaded in file order
+     */
+    @Test
+    public void testParallelParseKeepsFileOrder() throws IOException {
+        StringBuilder fileContent = new StringBuilder("Latest Questions" + System.lineSeparator());
+        int numQuestions = 0;
+        while (fileContent.length() < 2 * QuestionParseTask.CHUNK_SIZE) {
+            numQuestions++;
+            fileContent.append("S | undone | Question").append(numQuestions).append(" / Answer | Mod1 | NORMAL")
+                    .append(System.lineSeparator());
+        }
+        fileContent.append("S | undone | Question1 / Answer | Mod1 | NORMAL").append(System.lineSeparator());
+        fileContent.append("invalid question").append(System.lineSeparator());
+        Files.writeString(dataFile, fileContent);
+        QuestionList questions = new QuestionList();
+        new Storage(dataFile.toString()).buildCurrentListFromFile(questions);
+
+        Assertions.assertEquals(numQuestions + 1, questions.getQuestionListSize());
+        for (int i = 1; i <= numQuestions; i++) {
+            Assertions.assertEquals("Question" + i, questions.getQuestionByIndex(i).getQuestionBody());
+        }
+        Assertions.assertEquals("Question1", questions.getQuestionByIndex(numQuestions + 1).getQuestionBody());
+        Assertions.assertEquals("[S][ ] Question" + numQuestions + " / Answer | Mod1 | NORMAL",
+                questions.viewQuestionByIndex(numQuestions));
+        Assertions.assertTrue(questions.getArena().getStoredBytes() >= numQuestions * "QuestionAnswer".length());
+        Assertions.assertTrue(outputStreamCaptor.toString().contains("1 questions parsed unsuccessfully"));
+    }
+
+    /**
+     * Test an empty binary question file imports questions from the text question file of the same name,
+     * dropping duplicate questions
+     */
+    @Test
+    public void testBinaryFileImportsTextFile() throws IOException {
+        Files.writeString(dataFile, "Latest Questions" + System.lineSeparator()
+                + "S | done | Question1 / Answer1 | Mod1 | NORMAL" + System.lineSeparator()
+                + "S | undone | Question1 / Answer2 | Mod1 | EASY" + System.lineSeparator());
+        Path binaryFile = dataFile.resolveSibling("questionlist.bin");
+        QuestionList questions = new QuestionList();
+        new Storage(binaryFile.toString()).buildCurrentListFromFile(questions);
+
+        Assertions.assertEquals(1, questions.getQuestionListSize());
+        Assertions.assertEquals("[S][X] Question1 / Answer1 | Mod1 | NORMAL", questions.viewQuestionByIndex(1));
+        Assertions.assertTrue(Files.size(binaryFile) > 0);
+    }
+
+    /**
+     * Test moving the questions of a module into a module that already has a question of the same description
+     * leaves that question in its module, so no question is lost when the question list is loaded again
+     */
+    @Test
+    public void testRenameModuleIntoDuplicateKeptOnReload() {
+        Path binaryFile = dataFile.resolveSibling("questionlist.bin");
+        Storage storage = new Storage(binaryFile.toString(), true);
+        QuestionList questions = new QuestionList();
+        storage.buildCurrentListFromFile(questions);
+        Parser parser = new Parser(questions);
+        Ui ui = new Ui(storage, questions);
+        for (String command : List.of("short Q4/A4/M9/normal", "short Q5/A5/M2/normal", "short Q4/A4/M2/normal",
+                "edit /module M2 /module M9")) {
+            parser.parseCommand(command).executeCommand(ui, storage, questions);
+        }
+        Assertions.assertEquals("M9", questions.getQuestionByIndex(2).getModule());
+        Assertions.assertEquals("M2", questions.getQuestionByIndex(3).getModule());
+        Assertions.assertTrue(outputStreamCaptor.toString().contains(QuestionList.RENAME_DUPLICATES_MSG));
+        storage.updateData(questions);
+
+        QuestionList loadedQuestions = new QuestionList();
+        new Storage(binaryFile.toString(), true).buildCurrentListFromFile(loadedQuestions);
+        Assertions.assertEquals(getQuestionDetails(questions), getQuestionDetails(loadedQuestions));
+    }
+
+    /**
+     * Test a snapshot holding two questions with the same description, type and module is loaded with both,
+     * so a change journaled by list index after the snapshot is replayed on the same question as in memory
+     */
+    @Test
+    public void testSnapshotWithDuplicatesReplaysJournalByIndex() {
+        for (String fileName : List.of("questionlist.txt", "binarylist.bin")) {
+            String questionFile = dataFile.resolveSibling(fileName).toString();
+            Storage storage = new Storage(questionFile, true);
+            QuestionList questions = new QuestionList();
+            storage.buildCurrentListFromFile(questions);
+            for (int i = 1; i <= 3; i++) {
+                questions.addShortAnswerQn("Q" + i, "A" + i, "Mod1", Question.QnDifficulty.NORMAL, false);
+            }
+            questions.editQuestionByIndex(2, "description", "Q1", false);
+            storage.updateData(questions);
+            questions.deleteQuestionByIndex(3, false);
+            storage.recordDeletion(questions, 3);
+            questions.editQuestionByIndex(2, "answer", "A4", false);
+            storage.recordEdit(questions, 2, "answer", "A4");
+
+            QuestionList loadedQuestions = new QuestionList();
+            new Storage(questionFile, true).buildCurrentListFromFile(loadedQuestions);
+            Assertions.assertEquals(2, loadedQuestions.getQuestionListSize());
+            Assertions.assertEquals(getQuestionDetails(questions), getQuestionDetails(loadedQuestions));
+        }
+    }
+
+    private static List<String> getQuestionDetails(QuestionList questions) {
+        List<String> questionDetails = new ArrayList<>();
+        for (int i = 1; i <= questions.getQuestionListSize(); i++) {
+            questionDetails.add(questions.viewQuestionByIndex(i));
+        }
+        return questionDetails;
+    }
+}